@@ -0,0 +1,93 @@
+-- Insert throughput of random (v4) versus time-ordered (v7) UUID primary keys on PostgreSQL.
+--
+-- Both tables mirror the shape of approval_task. Each is first filled with :base_rows rows, then
+-- :measure_rows more rows are inserted in transactions of :batch_rows while timing, WAL volume and
+-- primary key size are recorded. The difference only shows once the primary key index no longer fits
+-- in shared_buffers, so keep base_rows in the millions.
+--
+-- Usage (the CHECKPOINT statements need superuser or pg_checkpoint):
+--   psql -d bench -v base_rows=5000000 -v measure_rows=1000000 -v batch_rows=1000 \
+--        -f benchmarks/uuid-insert-benchmark.sql
+--
+-- Compare the "rows_per_second", "wal" and "pk_size" lines of the two runs.
+
+\set ON_ERROR_STOP on
+\if :{?base_rows}
+\else
+  \set base_rows 5000000
+\endif
+\if :{?measure_rows}
+\else
+  \set measure_rows 1000000
+\endif
+\if :{?batch_rows}
+\else
+  \set batch_rows 1000
+\endif
+
+-- Same layout as TimeOrderedUuidStrategy: 48-bit millisecond timestamp, version 7, random remainder
+CREATE OR REPLACE FUNCTION pg_temp.uuid_v7() RETURNS uuid
+LANGUAGE sql VOLATILE AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid
+$$;
+
+CREATE OR REPLACE FUNCTION pg_temp.next_id(variant text) RETURNS uuid
+LANGUAGE sql VOLATILE AS $$
+    SELECT CASE WHEN variant = 'v7' THEN pg_temp.uuid_v7() ELSE gen_random_uuid() END
+$$;
+
+CREATE OR REPLACE PROCEDURE pg_temp.run_benchmark(variant text, base_rows bigint, measure_rows bigint, batch_rows bigint)
+LANGUAGE plpgsql AS $$
+DECLARE
+    table_name text := 'bench_task_' || variant;
+    started timestamptz;
+    elapsed double precision;
+    wal_start pg_lsn;
+    inserted bigint := 0;
+BEGIN
+    EXECUTE format('DROP TABLE IF EXISTS %I', table_name);
+    EXECUTE format('CREATE TABLE %I ('
+                   || 'id uuid PRIMARY KEY, '
+                   || 'step_instance_id uuid NOT NULL, '
+                   || 'approver_id varchar(100) NOT NULL, '
+                   || 'status varchar(30) NOT NULL, '
+                   || 'created_at timestamptz NOT NULL)', table_name);
+
+    EXECUTE format('INSERT INTO %I SELECT pg_temp.next_id(%L), gen_random_uuid(), ''user-'' || (g %% 1000), '
+                   || '''APPROVED'', clock_timestamp() FROM generate_series(1, %s) g',
+                   table_name, variant, base_rows);
+    EXECUTE format('ANALYZE %I', table_name);
+    COMMIT;
+    EXECUTE 'CHECKPOINT';
+
+    wal_start := pg_current_wal_lsn();
+    started := clock_timestamp();
+    WHILE inserted < measure_rows LOOP
+        EXECUTE format('INSERT INTO %I SELECT pg_temp.next_id(%L), gen_random_uuid(), ''user-'' || (g %% 1000), '
+                       || '''PENDING'', clock_timestamp() FROM generate_series(1, %s) g',
+                       table_name, variant, least(batch_rows, measure_rows - inserted));
+        COMMIT;
+        inserted := inserted + least(batch_rows, measure_rows - inserted);
+    END LOOP;
+    elapsed := extract(epoch FROM clock_timestamp() - started);
+
+    RAISE NOTICE '% rows_per_second=% seconds=% wal=% pk_size=%',
+        variant,
+        round(measure_rows / greatest(elapsed, 0.001)),
+        round(elapsed::numeric, 2),
+        pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), wal_start)),
+        pg_size_pretty(pg_relation_size(format('%I', table_name || '_pkey')::regclass));
+END
+$$;
+
+CALL pg_temp.run_benchmark('v4', :base_rows, :measure_rows, :batch_rows);
+CALL pg_temp.run_benchmark('v7', :base_rows, :measure_rows, :batch_rows);
+
+DROP TABLE bench_task_v4;
+DROP TABLE bench_task_v7;
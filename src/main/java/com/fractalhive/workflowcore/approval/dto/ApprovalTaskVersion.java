@@ -0,0 +1,24 @@
+package com.fractalhive.workflowcore.approval.dto;
+
+import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
+
+import java.sql.Timestamp;
+
+/**
+ * Lean projection of the columns a task response changes with: the task's own timestamps and the
+ * status of its workflow instance and work item. Used to answer conditional requests without
+ * assembling the task.
+ */
+public interface ApprovalTaskVersion {
+
+    Timestamp getCreatedAt();
+
+    Timestamp getUpdatedAt();
+
+    WorkflowStatus getWorkflowStatus();
+
+    WorkItemStatus getWorkItemStatus();
+
+    Integer getWorkItemVersion();
+}
@@ -0,0 +1,13 @@
+package com.fractalhive.workflowcore.approval.dto;
+
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+
+/**
+ * Number of tasks in one status, as returned by a {@code GROUP BY status} query.
+ */
+public interface TaskStatusCount {
+
+    TaskStatus getStatus();
+
+    long getCount();
+}
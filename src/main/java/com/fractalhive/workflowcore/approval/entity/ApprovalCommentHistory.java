@@ -0,0 +1,54 @@
+package com.fractalhive.workflowcore.approval.entity;
+
+import com.fractalhive.workflowcore.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Archived copy of an {@link ApprovalComment} of a terminal workflow instance.
+ */
+@Entity
+@Immutable
+@Table(name = "approval_comment_history", indexes = {
+        @Index(name = "idx_approval_comment_history_task", columnList = "approval_task_id")
+})
+@Getter
+@Setter
+public class ApprovalCommentHistory extends BaseEntity {
+
+    @Column(name = "approval_task_id", nullable = false, updatable = false)
+    private UUID approvalTaskId;
+
+    @Column(name = "comment", nullable = false, columnDefinition = "TEXT")
+    private String comment;
+
+    @Column(name = "commented_by", nullable = false, length = 100)
+    private String commentedBy;
+
+    @Column(name = "commented_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp commentedAt;
+
+    /**
+     * Returns a detached comment with the archived values, for code that reads active comments.
+     *
+     * @return detached approval comment
+     */
+    public ApprovalComment toApprovalComment() {
+        ApprovalComment approvalComment = new ApprovalComment();
+        approvalComment.setId(getId());
+        approvalComment.setCreatedAt(getCreatedAt());
+        approvalComment.setCreatedBy(getCreatedBy());
+        approvalComment.setUpdatedAt(getUpdatedAt());
+        approvalComment.setUpdatedBy(getUpdatedBy());
+        approvalComment.setApprovalTaskId(approvalTaskId);
+        approvalComment.setComment(comment);
+        approvalComment.setCommentedBy(commentedBy);
+        approvalComment.setCommentedAt(commentedAt);
+        return approvalComment;
+    }
+}
@@ -0,0 +1,60 @@
+package com.fractalhive.workflowcore.approval.entity;
+
+import com.fractalhive.workflowcore.approval.enums.DecisionType;
+import com.fractalhive.workflowcore.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Archived copy of an {@link ApprovalDecision} of a terminal workflow instance.
+ */
+@Entity
+@Immutable
+@Table(name = "approval_decision_history", indexes = {
+        @Index(name = "idx_approval_decision_history_task", columnList = "approval_task_id")
+})
+@Getter
+@Setter
+public class ApprovalDecisionHistory extends BaseEntity {
+
+    @Column(name = "approval_task_id", nullable = false, updatable = false)
+    private UUID approvalTaskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "decision", nullable = false, length = 20)
+    private DecisionType decision;
+
+    @Column(name = "comments", columnDefinition = "TEXT")
+    private String comments;
+
+    @Column(name = "decided_by", nullable = false, length = 100)
+    private String decidedBy;
+
+    @Column(name = "decided_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp decidedAt;
+
+    /**
+     * Returns a detached decision with the archived values, for code that reads active decisions.
+     *
+     * @return detached approval decision
+     */
+    public ApprovalDecision toApprovalDecision() {
+        ApprovalDecision decisionRecord = new ApprovalDecision();
+        decisionRecord.setId(getId());
+        decisionRecord.setCreatedAt(getCreatedAt());
+        decisionRecord.setCreatedBy(getCreatedBy());
+        decisionRecord.setUpdatedAt(getUpdatedAt());
+        decisionRecord.setUpdatedBy(getUpdatedBy());
+        decisionRecord.setApprovalTaskId(approvalTaskId);
+        decisionRecord.setDecision(decision);
+        decisionRecord.setComments(comments);
+        decisionRecord.setDecidedBy(decidedBy);
+        decisionRecord.setDecidedAt(decidedAt);
+        return decisionRecord;
+    }
+}
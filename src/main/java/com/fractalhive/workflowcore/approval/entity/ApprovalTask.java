@@ -8,16 +8,26 @@ import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnTransformer;
 
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Represents an approval task assigned to an approver for a workflow step.
+ * <p>
+ * {@code updatedAt} is stamped whenever the task is inserted or updated. {@code changeXid} is stamped in
+ * the same statements with the ID of the writing database transaction, which orders the approver inbox
+ * delta feed by commit visibility rather than by the application clock.
  */
 @Entity
-@Table(name = "approval_task")
+@Table(name = "approval_task", indexes = {
+        @Index(name = "idx_approval_task_approver_status", columnList = "approver_id, status"),
+        @Index(name = "idx_approval_task_approver_change", columnList = "approver_id, change_xid, id"),
+        @Index(name = "idx_approval_task_previous_approver_change", columnList = "previous_approver_id, change_xid, id")
+})
 @Getter
 @Setter
 public class ApprovalTask extends BaseEntity {
@@ -28,6 +38,13 @@ public class ApprovalTask extends BaseEntity {
     @Column(name = "approver_id", nullable = false, length = 100)
     private String approverId;
 
+    /**
+     * The approver the task was taken from by its most recent delegation or reassignment, so that the
+     * change feed of that approver can report the task as removed.
+     */
+    @Column(name = "previous_approver_id", length = 100)
+    private String previousApproverId;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "approver_type", nullable = false, length = 20)
     private ApproverType approverType;
@@ -42,6 +59,14 @@ public class ApprovalTask extends BaseEntity {
     @Column(name = "acted_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
     private Timestamp actedAt;
 
+    /**
+     * ID of the PostgreSQL transaction that last inserted or updated the task. Left null by the entity, so
+     * that every insert and update writes the ID of its own transaction.
+     */
+    @Column(name = "change_xid")
+    @ColumnTransformer(write = "COALESCE(?, CAST(CAST(pg_current_xact_id() AS text) AS bigint))")
+    private Long changeXid;
+
     /**
      * Optional read-only association to parent step instance.
      * Not used for persistence, only for convenience queries.
@@ -63,4 +88,23 @@ public class ApprovalTask extends BaseEntity {
      */
     @OneToMany(mappedBy = "approvalTask", fetch = FetchType.LAZY)
     private List<ApprovalComment> comments;
+
+    /**
+     * Moves the task to another approver, remembering the current one as the previous approver.
+     *
+     * @param approverId the new approver ID
+     */
+    public void reassignTo(String approverId) {
+        if (!approverId.equals(this.approverId)) {
+            this.previousApproverId = this.approverId;
+            this.approverId = approverId;
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    void stampUpdatedAt() {
+        setUpdatedAt(Timestamp.from(Instant.now()));
+        changeXid = null;
+    }
 }
@@ -0,0 +1,71 @@
+package com.fractalhive.workflowcore.approval.entity;
+
+import com.fractalhive.workflowcore.approval.enums.ApproverType;
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+import com.fractalhive.workflowcore.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Archived copy of an {@link ApprovalTask} of a terminal workflow instance.
+ * Rows are moved here by the history archiver and never change afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "approval_task_history", indexes = {
+        @Index(name = "idx_approval_task_history_step_instance", columnList = "step_instance_id")
+})
+@Getter
+@Setter
+public class ApprovalTaskHistory extends BaseEntity {
+
+    @Column(name = "step_instance_id", nullable = false, updatable = false)
+    private UUID stepInstanceId;
+
+    @Column(name = "approver_id", nullable = false, length = 100)
+    private String approverId;
+
+    @Column(name = "previous_approver_id", length = 100)
+    private String previousApproverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "approver_type", nullable = false, length = 20)
+    private ApproverType approverType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private TaskStatus status;
+
+    @Column(name = "due_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp dueAt;
+
+    @Column(name = "acted_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp actedAt;
+
+    /**
+     * Returns a detached task with the archived values, for code that reads active tasks.
+     *
+     * @return detached approval task
+     */
+    public ApprovalTask toApprovalTask() {
+        ApprovalTask task = new ApprovalTask();
+        task.setId(getId());
+        task.setCreatedAt(getCreatedAt());
+        task.setCreatedBy(getCreatedBy());
+        task.setUpdatedAt(getUpdatedAt());
+        task.setUpdatedBy(getUpdatedBy());
+        task.setStepInstanceId(stepInstanceId);
+        task.setApproverId(approverId);
+        task.setPreviousApproverId(previousApproverId);
+        task.setApproverType(approverType);
+        task.setStatus(status);
+        task.setDueAt(dueAt);
+        task.setActedAt(actedAt);
+        return task;
+    }
+}
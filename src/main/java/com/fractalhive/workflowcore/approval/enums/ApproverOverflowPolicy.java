@@ -0,0 +1,17 @@
+package com.fractalhive.workflowcore.approval.enums;
+
+/**
+ * Defines what happens when a step's resolved approvers exceed the configured maximum fan-out.
+ */
+public enum ApproverOverflowPolicy {
+    /**
+     * Reject the transition that starts the step.
+     */
+    FAIL,
+
+    /**
+     * Keep the first approvers up to the limit (explicit USER approvers first) and drop the rest.
+     * Dropped approvers get no task, so an ALL step then completes once the kept approvers approve.
+     */
+    TRUNCATE
+}
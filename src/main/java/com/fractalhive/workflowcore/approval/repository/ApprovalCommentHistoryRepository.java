@@ -0,0 +1,59 @@
+package com.fractalhive.workflowcore.approval.repository;
+
+import com.fractalhive.workflowcore.approval.entity.ApprovalCommentHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for archived ApprovalComment rows.
+ */
+@Repository
+public interface ApprovalCommentHistoryRepository extends JpaRepository<ApprovalCommentHistory, UUID> {
+
+    /**
+     * Find archived comments of an approval task, oldest first.
+     *
+     * @param approvalTaskId the approval task ID
+     * @return list of archived comments
+     */
+    List<ApprovalCommentHistory> findByApprovalTaskIdOrderByCommentedAtAsc(UUID approvalTaskId);
+
+    /**
+     * Move the comments of workflow instances from the active table to the history table in one statement.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of comments moved
+     */
+    @Modifying
+    @Query(value = "WITH moved AS ("
+            + "DELETE FROM approval_comment c USING approval_task t, workflow_step_instance s "
+            + "WHERE c.approval_task_id = t.id AND t.step_instance_id = s.id "
+            + "AND s.workflow_instance_id IN (:workflowInstanceIds) "
+            + "RETURNING c.*) "
+            + "INSERT INTO approval_comment_history "
+            + "(id, created_at, created_by, updated_at, updated_by, approval_task_id, comment, commented_by, "
+            + "commented_at) "
+            + "SELECT id, created_at, created_by, updated_at, updated_by, approval_task_id, comment, commented_by, "
+            + "commented_at FROM moved",
+            nativeQuery = true)
+    int moveFromActive(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+
+    /**
+     * Delete the archived comments of workflow instances in one statement. Used when purging work items.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of archived comments deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalCommentHistory c WHERE c.approvalTaskId IN "
+            + "(SELECT t.id FROM ApprovalTaskHistory t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstanceHistory s WHERE s.workflowInstanceId IN :workflowInstanceIds))")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+}
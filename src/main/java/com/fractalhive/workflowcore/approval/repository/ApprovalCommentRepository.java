@@ -2,8 +2,13 @@ package com.fractalhive.workflowcore.approval.repository;
 
 import com.fractalhive.workflowcore.approval.entity.ApprovalComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +26,17 @@ public interface ApprovalCommentRepository extends JpaRepository<ApprovalComment
      */
     List<ApprovalComment> findByApprovalTaskIdOrderByCommentedAtAsc(UUID approvalTaskId);
 
+    /**
+     * Find all comments for an approval task created at or after a lower bound, ordered by comment time
+     * ascending. The bound lets PostgreSQL skip older partitions when the table is partitioned.
+     *
+     * @param approvalTaskId   the approval task ID
+     * @param createdNotBefore lower bound for the comments' creation time
+     * @return list of approval comments
+     */
+    List<ApprovalComment> findByApprovalTaskIdAndCreatedAtGreaterThanEqualOrderByCommentedAtAsc(
+            UUID approvalTaskId, Timestamp createdNotBefore);
+
     /**
      * Find all comments by commenter.
      *
@@ -28,4 +44,16 @@ public interface ApprovalCommentRepository extends JpaRepository<ApprovalComment
      * @return list of approval comments
      */
     List<ApprovalComment> findByCommentedBy(String commentedBy);
+
+    /**
+     * Delete the comments of workflow instances in one statement. Used when purging work items.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of comments deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalComment c WHERE c.approvalTaskId IN "
+            + "(SELECT t.id FROM ApprovalTask t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstance s WHERE s.workflowInstanceId IN :workflowInstanceIds))")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
 }
@@ -0,0 +1,59 @@
+package com.fractalhive.workflowcore.approval.repository;
+
+import com.fractalhive.workflowcore.approval.entity.ApprovalDecisionHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for archived ApprovalDecision rows.
+ */
+@Repository
+public interface ApprovalDecisionHistoryRepository extends JpaRepository<ApprovalDecisionHistory, UUID> {
+
+    /**
+     * Find the archived decision of an approval task.
+     *
+     * @param approvalTaskId the approval task ID
+     * @return optional archived decision
+     */
+    Optional<ApprovalDecisionHistory> findByApprovalTaskId(UUID approvalTaskId);
+
+    /**
+     * Move the decisions of workflow instances from the active table to the history table in one statement.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of decisions moved
+     */
+    @Modifying
+    @Query(value = "WITH moved AS ("
+            + "DELETE FROM approval_decision d USING approval_task t, workflow_step_instance s "
+            + "WHERE d.approval_task_id = t.id AND t.step_instance_id = s.id "
+            + "AND s.workflow_instance_id IN (:workflowInstanceIds) "
+            + "RETURNING d.*) "
+            + "INSERT INTO approval_decision_history "
+            + "(id, created_at, created_by, updated_at, updated_by, approval_task_id, decision, comments, "
+            + "decided_by, decided_at) "
+            + "SELECT id, created_at, created_by, updated_at, updated_by, approval_task_id, decision, comments, "
+            + "decided_by, decided_at FROM moved",
+            nativeQuery = true)
+    int moveFromActive(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+
+    /**
+     * Delete the archived decisions of workflow instances in one statement. Used when purging work items.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of archived decisions deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalDecisionHistory c WHERE c.approvalTaskId IN "
+            + "(SELECT t.id FROM ApprovalTaskHistory t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstanceHistory s WHERE s.workflowInstanceId IN :workflowInstanceIds))")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+}
@@ -3,10 +3,13 @@ package com.fractalhive.workflowcore.approval.repository;
 import com.fractalhive.workflowcore.approval.entity.ApprovalDecision;
 import com.fractalhive.workflowcore.approval.enums.DecisionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +28,28 @@ public interface ApprovalDecisionRepository extends JpaRepository<ApprovalDecisi
      */
     Optional<ApprovalDecision> findByApprovalTaskId(UUID approvalTaskId);
 
+    /**
+     * Find the decision for an approval task, considering only decisions created at or after a lower bound.
+     * The bound lets PostgreSQL skip older partitions when the table is partitioned.
+     *
+     * @param approvalTaskId   the approval task ID
+     * @param createdNotBefore lower bound for the decision's creation time
+     * @return the approval decision if found
+     */
+    Optional<ApprovalDecision> findByApprovalTaskIdAndCreatedAtGreaterThanEqual(UUID approvalTaskId,
+                                                                                 Timestamp createdNotBefore);
+
+    /**
+     * Find the decisions for a set of approval tasks in one query, considering only decisions created at or
+     * after a lower bound. The bound lets PostgreSQL skip older partitions when the table is partitioned.
+     *
+     * @param approvalTaskIds  the approval task IDs
+     * @param createdNotBefore lower bound for the decisions' creation time
+     * @return list of approval decisions
+     */
+    List<ApprovalDecision> findByApprovalTaskIdInAndCreatedAtGreaterThanEqual(Collection<UUID> approvalTaskIds,
+                                                                            Timestamp createdNotBefore);
+
     /**
      * Find all decisions for approval tasks in a step instance.
      *
@@ -41,4 +66,16 @@ public interface ApprovalDecisionRepository extends JpaRepository<ApprovalDecisi
      * @return list of approval decisions
      */
     List<ApprovalDecision> findByDecision(DecisionType decision);
+
+    /**
+     * Delete the decisions of workflow instances in one statement. Used when purging work items.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of decisions deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalDecision c WHERE c.approvalTaskId IN "
+            + "(SELECT t.id FROM ApprovalTask t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstance s WHERE s.workflowInstanceId IN :workflowInstanceIds))")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
 }
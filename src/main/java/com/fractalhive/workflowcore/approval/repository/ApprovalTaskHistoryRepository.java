@@ -0,0 +1,78 @@
+package com.fractalhive.workflowcore.approval.repository;
+
+import com.fractalhive.workflowcore.approval.dto.ApprovalTaskVersion;
+import com.fractalhive.workflowcore.approval.entity.ApprovalTaskHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for archived ApprovalTask rows.
+ */
+@Repository
+public interface ApprovalTaskHistoryRepository extends JpaRepository<ApprovalTaskHistory, UUID> {
+
+    /**
+     * Find all archived tasks of a workflow instance in one query.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return list of archived tasks, oldest first
+     */
+    @Query("SELECT t FROM ApprovalTaskHistory t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstanceHistory s WHERE s.workflowInstanceId = :workflowInstanceId) "
+            + "ORDER BY t.createdAt ASC")
+    List<ApprovalTaskHistory> findByWorkflowInstanceId(@Param("workflowInstanceId") UUID workflowInstanceId);
+
+    /**
+     * Find the version columns of an archived task and of the workflow instance and work item its response
+     * embeds, in one query and without loading any entity.
+     *
+     * @param id the task ID
+     * @return optional task version
+     */
+    @Query("SELECT t.createdAt AS createdAt, t.updatedAt AS updatedAt, i.status AS workflowStatus, "
+            + "w.status AS workItemStatus, w.currentVersion AS workItemVersion FROM ApprovalTaskHistory t "
+            + "LEFT JOIN WorkflowStepInstanceHistory s ON s.id = t.stepInstanceId "
+            + "LEFT JOIN WorkflowInstance i ON i.id = s.workflowInstanceId "
+            + "LEFT JOIN WorkItem w ON w.id = i.workItemId "
+            + "WHERE t.id = :id")
+    Optional<ApprovalTaskVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Move the tasks of workflow instances from the active table to the history table in one statement.
+     * Decisions and comments must have been moved first.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of tasks moved
+     */
+    @Modifying
+    @Query(value = "WITH moved AS ("
+            + "DELETE FROM approval_task t USING workflow_step_instance s "
+            + "WHERE t.step_instance_id = s.id AND s.workflow_instance_id IN (:workflowInstanceIds) "
+            + "RETURNING t.*) "
+            + "INSERT INTO approval_task_history "
+            + "(id, created_at, created_by, updated_at, updated_by, step_instance_id, approver_id, "
+            + "previous_approver_id, approver_type, status, due_at, acted_at) "
+            + "SELECT id, created_at, created_by, updated_at, updated_by, step_instance_id, approver_id, "
+            + "previous_approver_id, approver_type, status, due_at, acted_at FROM moved",
+            nativeQuery = true)
+    int moveFromActive(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+
+    /**
+     * Delete the archived tasks of workflow instances in one statement. Used when purging work items; archived decisions and comments must have been deleted first.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of archived tasks deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalTaskHistory t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstanceHistory s WHERE s.workflowInstanceId IN :workflowInstanceIds)")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+}
@@ -1,12 +1,21 @@
 package com.fractalhive.workflowcore.approval.repository;
 
+import com.fractalhive.workflowcore.approval.dto.ApprovalTaskVersion;
+import com.fractalhive.workflowcore.approval.dto.TaskStatusCount;
 import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -50,6 +59,42 @@ public interface ApprovalTaskRepository extends JpaRepository<ApprovalTask, UUID
      */
     List<ApprovalTask> findByApproverIdAndStatusOrderByDueAtAsc(String approverId, TaskStatus status);
 
+    /**
+     * Count the tasks of an approver per status in one aggregate query, served by the
+     * (approver_id, status) index.
+     *
+     * @param approverId the approver ID
+     * @return one count per status the approver has tasks in
+     */
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM ApprovalTask t "
+            + "WHERE t.approverId = :approverId GROUP BY t.status")
+    List<TaskStatusCount> countByApproverIdGroupByStatus(@Param("approverId") String approverId);
+
+    /**
+     * Find the distinct approvers of the tasks of a step instance that are in one of the given statuses.
+     *
+     * @param stepInstanceId the step instance ID
+     * @param statuses       the task statuses
+     * @return approver IDs
+     */
+    @Query("SELECT DISTINCT t.approverId FROM ApprovalTask t "
+            + "WHERE t.stepInstanceId = :stepInstanceId AND t.status IN :statuses")
+    List<String> findApproverIdsByStepInstanceId(@Param("stepInstanceId") UUID stepInstanceId,
+                                                 @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Find the distinct approvers of the tasks of all step instances of a workflow instance that are in
+     * one of the given statuses.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @param statuses           the task statuses
+     * @return approver IDs
+     */
+    @Query("SELECT DISTINCT t.approverId FROM ApprovalTask t WHERE t.status IN :statuses AND t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstance s WHERE s.workflowInstanceId = :workflowInstanceId)")
+    List<String> findApproverIdsByWorkflowInstanceId(@Param("workflowInstanceId") UUID workflowInstanceId,
+                                                     @Param("statuses") Collection<TaskStatus> statuses);
+
     /**
      * Find all approval tasks for an approver (all statuses), ordered by created date descending.
      *
@@ -57,4 +102,158 @@ public interface ApprovalTaskRepository extends JpaRepository<ApprovalTask, UUID
      * @return list of approval tasks
      */
     List<ApprovalTask> findByApproverIdOrderByCreatedAtDesc(String approverId);
+
+    /**
+     * Find the version columns of a task and of the workflow instance and work item its response embeds,
+     * in one query and without loading any entity.
+     *
+     * @param id the task ID
+     * @return optional task version
+     */
+    @Query("SELECT t.createdAt AS createdAt, t.updatedAt AS updatedAt, i.status AS workflowStatus, "
+            + "w.status AS workItemStatus, w.currentVersion AS workItemVersion FROM ApprovalTask t "
+            + "LEFT JOIN WorkflowStepInstance s ON s.id = t.stepInstanceId "
+            + "LEFT JOIN WorkflowInstance i ON i.id = s.workflowInstanceId "
+            + "LEFT JOIN WorkItem w ON w.id = i.workItemId "
+            + "WHERE t.id = :id")
+    Optional<ApprovalTaskVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Find the tasks of an approver, or taken from the approver by delegation or reassignment, that were
+     * written after a (changeXid, id) position by a transaction older than an upper bound, in change order.
+     * Served by the (approver_id, change_xid, id) and (previous_approver_id, change_xid, id) indexes, so the
+     * cost follows the number of changes rather than the approver's history.
+     *
+     * @param approverId     the approver ID
+     * @param afterChangeXid transaction ID of the last change already seen
+     * @param afterId        ID of the last change already seen
+     * @param beforeXid      exclusive upper bound of the writing transaction ID
+     * @param pageable       limit of the page
+     * @return changed tasks, ordered by writing transaction ID and task ID
+     */
+    @Query("SELECT t FROM ApprovalTask t WHERE (t.approverId = :approverId OR t.previousApproverId = :approverId) "
+            + "AND t.changeXid < :beforeXid "
+            + "AND (t.changeXid > :afterChangeXid OR (t.changeXid = :afterChangeXid AND t.id > :afterId)) "
+            + "ORDER BY t.changeXid ASC, t.id ASC")
+    List<ApprovalTask> findChangesForApprover(@Param("approverId") String approverId,
+                                              @Param("afterChangeXid") long afterChangeXid,
+                                              @Param("afterId") UUID afterId,
+                                              @Param("beforeXid") long beforeXid,
+                                              Pageable pageable);
+
+    /**
+     * Returns the ID of the oldest transaction still running on the database, the xmin of a fresh snapshot.
+     * Every transaction with a lower ID has committed or rolled back, and no later write can get a lower ID,
+     * so the rows below it are final.
+     *
+     * @return the oldest running transaction ID
+     */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findOldestRunningTransactionId();
+
+    /**
+     * Returns the ID of the current transaction, assigning one if it has none yet. Used to stamp
+     * {@code changeXid} in bulk updates, which bypass the entity mapping.
+     *
+     * @return the current transaction ID
+     */
+    @Query(value = "SELECT CAST(CAST(pg_current_xact_id() AS text) AS bigint)", nativeQuery = true)
+    long findCurrentTransactionId();
+
+    /**
+     * Find all tasks of all step instances belonging to a workflow instance in one query.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return list of tasks, oldest first
+     */
+    @Query("SELECT t FROM ApprovalTask t WHERE t.stepInstance.workflowInstanceId = :workflowInstanceId "
+            + "ORDER BY t.createdAt ASC")
+    List<ApprovalTask> findByWorkflowInstanceId(@Param("workflowInstanceId") UUID workflowInstanceId);
+
+    /**
+     * Find all tasks of a workflow instance created at or after a lower bound, in one query.
+     * The bound lets PostgreSQL skip older partitions when the table is partitioned.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @param createdNotBefore   lower bound for the tasks' creation time
+     * @return list of tasks, oldest first
+     */
+    @Query("SELECT t FROM ApprovalTask t WHERE t.stepInstance.workflowInstanceId = :workflowInstanceId "
+            + "AND t.createdAt >= :createdNotBefore ORDER BY t.createdAt ASC")
+    List<ApprovalTask> findByWorkflowInstanceId(@Param("workflowInstanceId") UUID workflowInstanceId,
+                                                @Param("createdNotBefore") Timestamp createdNotBefore);
+
+    /**
+     * Find all tasks of a step instance created at or after a lower bound.
+     * The bound lets PostgreSQL skip older partitions when the table is partitioned.
+     *
+     * @param stepInstanceId   the step instance ID
+     * @param createdNotBefore lower bound for the tasks' creation time
+     * @return list of approval tasks
+     */
+    List<ApprovalTask> findByStepInstanceIdAndCreatedAtGreaterThanEqual(UUID stepInstanceId,
+                                                                         Timestamp createdNotBefore);
+
+    /**
+     * Find the oldest task that is still in one of the given statuses. Used to keep partitions that hold
+     * open tasks attached.
+     *
+     * @param statuses the statuses to look for
+     * @return the oldest matching task, if any
+     */
+    Optional<ApprovalTask> findFirstByStatusInOrderByCreatedAtAsc(Collection<TaskStatus> statuses);
+
+    /**
+     * Moves every task of a step instance whose status is in {@code fromStatuses} to {@code toStatus}
+     * in a single guarded UPDATE. The persistence context is flushed before and cleared after the
+     * statement, so previously loaded tasks must be re-read.
+     *
+     * @param stepInstanceId the step instance ID
+     * @param fromStatuses   the statuses a task must currently have to be updated
+     * @param toStatus       the target status
+     * @param updatedAt      the modification timestamp to record
+     * @param changeXid      the ID of the current transaction, see {@link #findCurrentTransactionId()}
+     * @return number of tasks updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalTask t SET t.status = :toStatus, t.updatedAt = :updatedAt, t.changeXid = :changeXid "
+            + "WHERE t.stepInstanceId = :stepInstanceId AND t.status IN :fromStatuses")
+    int updateStatusForStepInstance(@Param("stepInstanceId") UUID stepInstanceId,
+                                    @Param("fromStatuses") Collection<TaskStatus> fromStatuses,
+                                    @Param("toStatus") TaskStatus toStatus,
+                                    @Param("updatedAt") Timestamp updatedAt,
+                                    @Param("changeXid") long changeXid);
+
+    /**
+     * Moves every task of all step instances of a workflow instance whose status is in
+     * {@code fromStatuses} to {@code toStatus} in a single guarded UPDATE. The persistence context
+     * is flushed before and cleared after the statement, so previously loaded tasks must be re-read.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @param fromStatuses       the statuses a task must currently have to be updated
+     * @param toStatus           the target status
+     * @param updatedAt          the modification timestamp to record
+     * @param changeXid          the ID of the current transaction, see {@link #findCurrentTransactionId()}
+     * @return number of tasks updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ApprovalTask t SET t.status = :toStatus, t.updatedAt = :updatedAt, t.changeXid = :changeXid "
+            + "WHERE t.status IN :fromStatuses AND t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstance s WHERE s.workflowInstanceId = :workflowInstanceId)")
+    int updateStatusForWorkflowInstance(@Param("workflowInstanceId") UUID workflowInstanceId,
+                                        @Param("fromStatuses") Collection<TaskStatus> fromStatuses,
+                                        @Param("toStatus") TaskStatus toStatus,
+                                        @Param("updatedAt") Timestamp updatedAt,
+                                        @Param("changeXid") long changeXid);
+
+    /**
+     * Delete the tasks of workflow instances in one statement. Used when purging work items; decisions and comments must have been deleted first.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of tasks deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ApprovalTask t WHERE t.stepInstanceId IN "
+            + "(SELECT s.id FROM WorkflowStepInstance s WHERE s.workflowInstanceId IN :workflowInstanceIds)")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
 }
@@ -0,0 +1,91 @@
+package com.fractalhive.workflowcore.approval.service;
+
+import com.fractalhive.workflowcore.approval.dto.ApprovalTaskVersion;
+import com.fractalhive.workflowcore.approval.entity.ApprovalComment;
+import com.fractalhive.workflowcore.approval.entity.ApprovalCommentHistory;
+import com.fractalhive.workflowcore.approval.entity.ApprovalDecision;
+import com.fractalhive.workflowcore.approval.entity.ApprovalDecisionHistory;
+import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
+import com.fractalhive.workflowcore.approval.repository.ApprovalCommentHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskHistoryRepository;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstanceHistory;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceHistoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Read fallback for tasks of archived workflow instances.
+ * Returns detached active-entity views of the history rows, so callers can reuse their existing mapping code.
+ */
+@Component
+public class ApprovalHistoryReader {
+
+    private final ApprovalTaskHistoryRepository approvalTaskHistoryRepository;
+    private final ApprovalDecisionHistoryRepository approvalDecisionHistoryRepository;
+    private final ApprovalCommentHistoryRepository approvalCommentHistoryRepository;
+    private final WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository;
+
+    public ApprovalHistoryReader(ApprovalTaskHistoryRepository approvalTaskHistoryRepository,
+                                 ApprovalDecisionHistoryRepository approvalDecisionHistoryRepository,
+                                 ApprovalCommentHistoryRepository approvalCommentHistoryRepository,
+                                 WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository) {
+        this.approvalTaskHistoryRepository = approvalTaskHistoryRepository;
+        this.approvalDecisionHistoryRepository = approvalDecisionHistoryRepository;
+        this.approvalCommentHistoryRepository = approvalCommentHistoryRepository;
+        this.stepInstanceHistoryRepository = stepInstanceHistoryRepository;
+    }
+
+    /**
+     * Finds an archived task, with its archived step instance attached.
+     *
+     * @param taskId the approval task ID
+     * @return detached task, or empty if the task is not archived
+     */
+    public Optional<ApprovalTask> findTask(UUID taskId) {
+        return approvalTaskHistoryRepository.findById(taskId).map(archived -> {
+            ApprovalTask task = archived.toApprovalTask();
+            stepInstanceHistoryRepository.findById(archived.getStepInstanceId())
+                    .map(WorkflowStepInstanceHistory::toStepInstance)
+                    .ifPresent(task::setStepInstance);
+            return task;
+        });
+    }
+
+    /**
+     * Finds the version columns of an archived task, for conditional requests.
+     *
+     * @param taskId the approval task ID
+     * @return the task version, or empty if the task is not archived
+     */
+    public Optional<ApprovalTaskVersion> findTaskVersion(UUID taskId) {
+        return approvalTaskHistoryRepository.findVersionById(taskId);
+    }
+
+    /**
+     * Finds the archived comments of a task, oldest first.
+     *
+     * @param taskId the approval task ID
+     * @return detached comments
+     */
+    public List<ApprovalComment> findComments(UUID taskId) {
+        return approvalCommentHistoryRepository.findByApprovalTaskIdOrderByCommentedAtAsc(taskId).stream()
+                .map(ApprovalCommentHistory::toApprovalComment)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the archived decision of a task.
+     *
+     * @param taskId the approval task ID
+     * @return detached decision, or empty if the task was never decided
+     */
+    public Optional<ApprovalDecision> findDecision(UUID taskId) {
+        return approvalDecisionHistoryRepository.findByApprovalTaskId(taskId)
+                .map(ApprovalDecisionHistory::toApprovalDecision);
+    }
+}
@@ -8,6 +8,7 @@ import com.fractalhive.workflowcore.approval.enums.RuleEvaluationResult;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
 import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionRepository;
 import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.common.persistence.PartitionPruning;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepDefinitionRepository;
@@ -17,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -60,7 +62,10 @@ public class ApprovalRuleEvaluator {
         WorkflowStepDefinition stepDefinition = workflowStepDefinitionRepository.findById(stepInstance.getStepId())
                 .orElseThrow(() -> new IllegalArgumentException("Step definition not found: " + stepInstance.getStepId()));
 
-        List<ApprovalTask> tasks = approvalTaskRepository.findByStepInstanceId(stepInstanceId);
+        // Tasks and decisions are created after their step instance, which lets partitioned tables be pruned
+        Timestamp createdNotBefore = PartitionPruning.notBefore(stepInstance.getCreatedAt());
+        List<ApprovalTask> tasks = approvalTaskRepository
+                .findByStepInstanceIdAndCreatedAtGreaterThanEqual(stepInstanceId, createdNotBefore);
         
         if (tasks.isEmpty()) {
             logger.warn("No approval tasks found for step instance: {}", stepInstanceId);
@@ -76,12 +81,12 @@ public class ApprovalRuleEvaluator {
             return RuleEvaluationResult.REJECTED;
         }
 
-        // Get all decisions for tasks in this step
-        List<ApprovalDecision> decisions = tasks.stream()
-                .map(task -> approvalDecisionRepository.findByApprovalTaskId(task.getId()))
-                .filter(java.util.Optional::isPresent)
-                .map(java.util.Optional::get)
+        // Get all decisions for tasks in this step in one query
+        List<UUID> taskIds = tasks.stream()
+                .map(ApprovalTask::getId)
                 .collect(Collectors.toList());
+        List<ApprovalDecision> decisions = approvalDecisionRepository
+                .findByApprovalTaskIdInAndCreatedAtGreaterThanEqual(taskIds, createdNotBefore);
 
         // Count approvals
         long approvalCount = decisions.stream()
@@ -0,0 +1,161 @@
+package com.fractalhive.workflowcore.approval.service;
+
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+import com.fractalhive.workflowcore.common.datasource.ReadYourWrites;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Local cache of per-approver task counts, kept current by the task transitions of this node.
+ * <p>
+ * Every code path that creates, transitions, reassigns or removes tasks evicts the approvers it touched.
+ * Evictions inside a transaction take effect after it commits, so a rolled-back change evicts nothing.
+ * A load that races with an eviction is not cached: the loader first registers a placeholder, and an
+ * eviction in the meantime removes it, so its result is returned but not stored. The loader runs on the
+ * primary: a replica that lags behind the commit that triggered an eviction would otherwise cache the counts
+ * from before it for a whole {@code time-to-live}. Changes made on other nodes become visible after
+ * {@code time-to-live}.
+ * <p>
+ * Disabled by default; when {@code workflow-core.task-counts.cache-enabled} is false every lookup runs
+ * the loader and evictions are no-ops.
+ */
+@Component
+public class ApprovalTaskCountCache {
+
+    private final WorkflowCoreProperties.TaskCounts settings;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ApprovalTaskCountCache(WorkflowCoreProperties properties) {
+        this.settings = properties.getTaskCounts();
+    }
+
+    /**
+     * Whether counts are cached. Callers use this to skip work that only serves eviction.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return settings.isCacheEnabled();
+    }
+
+    /**
+     * Returns the cached counts of an approver, loading and caching them if absent or expired. When the cache
+     * is enabled the loader runs on the primary, see {@link ReadYourWrites}.
+     *
+     * @param approverId the approver ID
+     * @param loader     loads the counts from the database; must not already be inside a transaction
+     * @return counts per status
+     */
+    public Map<TaskStatus, Long> get(String approverId, Supplier<Map<TaskStatus, Long>> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+        long now = System.nanoTime();
+        Entry cached = entries.get(approverId);
+        if (cached != null && cached.counts != null && now - cached.expiresAt < 0) {
+            return cached.counts;
+        }
+
+        Entry placeholder = new Entry(null, now);
+        entries.put(approverId, placeholder);
+        Map<TaskStatus, Long> counts = Collections.unmodifiableMap(ReadYourWrites.onPrimary(loader));
+        if (entries.size() > settings.getMaxEntries()) {
+            entries.clear();
+        }
+        Duration timeToLive = settings.getTimeToLive();
+        entries.replace(approverId, placeholder, new Entry(counts, System.nanoTime() + timeToLive.toNanos()));
+        return counts;
+    }
+
+    /**
+     * Evicts the counts of approvers whose tasks changed, after the current transaction commits
+     * or right away outside a transaction.
+     *
+     * @param approverIds the approver IDs; nulls are ignored
+     */
+    public void evict(String... approverIds) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Arrays.stream(approverIds).filter(Objects::nonNull).forEach(entries::remove);
+            return;
+        }
+        Arrays.stream(approverIds).filter(Objects::nonNull).forEach(pending().approverIds::add);
+    }
+
+    /**
+     * Evicts the counts of all approvers, after the current transaction commits or right away outside
+     * a transaction. Used by bulk operations that do not know which approvers they affected.
+     */
+    public void evictAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.clear();
+            return;
+        }
+        pending().all = true;
+    }
+
+    private PendingEvictions pending() {
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvictions();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * Cached counts, or a placeholder of a load in progress when {@code counts} is null. Compared by identity,
+     * so a load only replaces its own placeholder.
+     */
+    private static final class Entry {
+
+        private final Map<TaskStatus, Long> counts;
+        private final long expiresAt;
+
+        private Entry(Map<TaskStatus, Long> counts, long expiresAt) {
+            this.counts = counts;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Approvers whose tasks changed in one transaction; evicted once it commits.
+     */
+    private class PendingEvictions implements TransactionSynchronization {
+
+        private final Set<String> approverIds = new LinkedHashSet<>();
+        private boolean all;
+
+        @Override
+        public void afterCommit() {
+            if (all) {
+                entries.clear();
+            } else {
+                approverIds.forEach(entries::remove);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ApprovalTaskCountCache.this);
+        }
+    }
+}
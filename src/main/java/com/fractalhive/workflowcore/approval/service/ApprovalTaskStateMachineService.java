@@ -5,6 +5,9 @@ import com.fractalhive.workflowcore.approval.enums.ApprovalTaskEvent;
 import com.fractalhive.workflowcore.approval.enums.DecisionType;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
 import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
@@ -14,7 +17,10 @@ import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +30,13 @@ import java.util.UUID;
 @Service
 public class ApprovalTaskStateMachineService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalTaskStateMachineService.class);
+
+    /**
+     * Statuses from which {@link ApprovalTaskEvent#WORKFLOW_CANCELLED} moves a task to CANCELLED.
+     */
+    private static final Set<TaskStatus> CANCELLABLE_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.DELEGATED);
+
     private static final String USER_ID_HEADER = "userId";
     private static final String COMMENTS_HEADER = "comments";
     private static final String TO_USER_ID_HEADER = "toUserId";
@@ -32,12 +45,18 @@ public class ApprovalTaskStateMachineService {
 
     private final StateMachineFactory<TaskStatus, ApprovalTaskEvent> stateMachineFactory;
     private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowProgressTracker progressTracker;
+    private final ApprovalTaskCountCache taskCountCache;
 
     public ApprovalTaskStateMachineService(
             @Qualifier("approvalTaskStateMachineFactory") StateMachineFactory<TaskStatus, ApprovalTaskEvent> stateMachineFactory,
-            ApprovalTaskRepository approvalTaskRepository) {
+            ApprovalTaskRepository approvalTaskRepository,
+            WorkflowProgressTracker progressTracker,
+            ApprovalTaskCountCache taskCountCache) {
         this.stateMachineFactory = stateMachineFactory;
         this.approvalTaskRepository = approvalTaskRepository;
+        this.progressTracker = progressTracker;
+        this.taskCountCache = taskCountCache;
     }
 
     /**
@@ -147,25 +166,54 @@ public class ApprovalTaskStateMachineService {
     }
 
     /**
-     * Cancels all pending tasks for a step instance.
+     * Cancels all open (pending or delegated) tasks for a step instance.
+     * <p>
+     * This is the set-based equivalent of sending {@link ApprovalTaskEvent#WORKFLOW_CANCELLED} to each
+     * task: one guarded UPDATE moves the tasks to CANCELLED and the step's progress is marked dirty once,
+     * exactly as {@code CancelTaskAction} does per task. Tasks loaded earlier in the transaction are
+     * detached by the update and must be re-read.
      *
      * @param stepInstanceId the step instance ID
+     * @return number of tasks cancelled
      */
     @Transactional
-    public void cancelAllForStep(UUID stepInstanceId) {
-        List<ApprovalTask> pendingTasks = approvalTaskRepository.findByStepInstanceIdAndStatus(
-                stepInstanceId, TaskStatus.PENDING);
-
-        for (ApprovalTask task : pendingTasks) {
-            StateMachine<TaskStatus, ApprovalTaskEvent> stateMachine = createAndRestoreStateMachine(task);
-
-            Message<ApprovalTaskEvent> message = MessageBuilder
-                    .withPayload(ApprovalTaskEvent.WORKFLOW_CANCELLED)
-                    .build();
+    public int cancelAllForStep(UUID stepInstanceId) {
+        if (taskCountCache.isEnabled()) {
+            taskCountCache.evict(approvalTaskRepository
+                    .findApproverIdsByStepInstanceId(stepInstanceId, CANCELLABLE_STATUSES).toArray(String[]::new));
+        }
+        int cancelled = approvalTaskRepository.updateStatusForStepInstance(
+                stepInstanceId, CANCELLABLE_STATUSES, TaskStatus.CANCELLED, Timestamp.from(Instant.now()),
+                approvalTaskRepository.findCurrentTransactionId());
+        if (cancelled > 0) {
+            progressTracker.markStepDirty(stepInstanceId);
+        }
+        logger.debug("Cancelled {} open tasks of step instance {}", cancelled, stepInstanceId);
+        return cancelled;
+    }
 
-            stateMachine.sendEvent(message);
-            persistState(task, stateMachine);
+    /**
+     * Cancels all open (pending or delegated) tasks of every step of a workflow instance in one statement.
+     * <p>
+     * See {@link #cancelAllForStep(UUID)} for the equivalence with the per-task transition.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return number of tasks cancelled
+     */
+    @Transactional
+    public int cancelAllForWorkflowInstance(UUID workflowInstanceId) {
+        if (taskCountCache.isEnabled()) {
+            taskCountCache.evict(approvalTaskRepository
+                    .findApproverIdsByWorkflowInstanceId(workflowInstanceId, CANCELLABLE_STATUSES).toArray(String[]::new));
+        }
+        int cancelled = approvalTaskRepository.updateStatusForWorkflowInstance(
+                workflowInstanceId, CANCELLABLE_STATUSES, TaskStatus.CANCELLED, Timestamp.from(Instant.now()),
+                approvalTaskRepository.findCurrentTransactionId());
+        if (cancelled > 0) {
+            progressTracker.markDirty(workflowInstanceId);
         }
+        logger.debug("Cancelled {} open tasks of workflow instance {}", cancelled, workflowInstanceId);
+        return cancelled;
     }
 
     /**
@@ -203,8 +251,11 @@ public class ApprovalTaskStateMachineService {
             throw new IllegalStateException("State machine state is null after transition");
         }
         TaskStatus currentState = stateMachine.getState().getId();
+        // The entity is managed by the surrounding transaction: the action's changes and the status
+        // are written by one dirty-checked UPDATE at flush, so there is no explicit save here
         task.setStatus(currentState);
-        approvalTaskRepository.save(task);
+        // Delegation moves the task to another approver, so both approvers' counts change
+        taskCountCache.evict(task.getApproverId(), task.getPreviousApproverId());
     }
 
     /**
@@ -3,7 +3,7 @@ package com.fractalhive.workflowcore.approval.statemachine.action;
 import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
 import com.fractalhive.workflowcore.approval.enums.ApprovalTaskEvent;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
-import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
 
@@ -12,10 +12,10 @@ import org.springframework.statemachine.action.Action;
  */
 public class CancelTaskAction implements Action<TaskStatus, ApprovalTaskEvent> {
 
-    private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public CancelTaskAction(ApprovalTaskRepository approvalTaskRepository) {
-        this.approvalTaskRepository = approvalTaskRepository;
+    public CancelTaskAction(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -26,6 +26,6 @@ public class CancelTaskAction implements Action<TaskStatus, ApprovalTaskEvent> {
         }
 
         task.setStatus(TaskStatus.CANCELLED);
-        approvalTaskRepository.save(task);
+        progressTracker.markStepDirty(task.getStepInstanceId());
     }
 }
@@ -3,7 +3,7 @@ package com.fractalhive.workflowcore.approval.statemachine.action;
 import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
 import com.fractalhive.workflowcore.approval.enums.ApprovalTaskEvent;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
-import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
 
@@ -14,10 +14,10 @@ public class DelegateTaskAction implements Action<TaskStatus, ApprovalTaskEvent>
 
     private static final String TO_USER_ID_HEADER = "toUserId";
 
-    private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public DelegateTaskAction(ApprovalTaskRepository approvalTaskRepository) {
-        this.approvalTaskRepository = approvalTaskRepository;
+    public DelegateTaskAction(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -33,8 +33,8 @@ public class DelegateTaskAction implements Action<TaskStatus, ApprovalTaskEvent>
         }
 
         // Update approver to the delegate
-        task.setApproverId(toUserId);
+        task.reassignTo(toUserId);
         task.setStatus(TaskStatus.DELEGATED);
-        approvalTaskRepository.save(task);
+        progressTracker.markStepDirty(task.getStepInstanceId());
     }
 }
@@ -3,7 +3,7 @@ package com.fractalhive.workflowcore.approval.statemachine.action;
 import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
 import com.fractalhive.workflowcore.approval.enums.ApprovalTaskEvent;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
-import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
 
@@ -15,10 +15,10 @@ import java.time.Instant;
  */
 public class ExpireTaskAction implements Action<TaskStatus, ApprovalTaskEvent> {
 
-    private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public ExpireTaskAction(ApprovalTaskRepository approvalTaskRepository) {
-        this.approvalTaskRepository = approvalTaskRepository;
+    public ExpireTaskAction(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -31,6 +31,6 @@ public class ExpireTaskAction implements Action<TaskStatus, ApprovalTaskEvent> {
         Timestamp now = Timestamp.from(Instant.now());
         task.setStatus(TaskStatus.EXPIRED);
         task.setActedAt(now);
-        approvalTaskRepository.save(task);
+        progressTracker.markStepDirty(task.getStepInstanceId());
     }
 }
@@ -8,7 +8,7 @@ import com.fractalhive.workflowcore.approval.enums.DecisionType;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
 import com.fractalhive.workflowcore.approval.repository.ApprovalCommentRepository;
 import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionRepository;
-import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
 
@@ -25,16 +25,16 @@ public class RecordApprovalDecisionAction implements Action<TaskStatus, Approval
     private static final String COMMENTS_HEADER = "comments";
     private static final String DECISION_TYPE_HEADER = "decisionType";
 
-    private final ApprovalTaskRepository approvalTaskRepository;
     private final ApprovalDecisionRepository approvalDecisionRepository;
     private final ApprovalCommentRepository approvalCommentRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public RecordApprovalDecisionAction(ApprovalTaskRepository approvalTaskRepository,
-                                        ApprovalDecisionRepository approvalDecisionRepository,
-                                        ApprovalCommentRepository approvalCommentRepository) {
-        this.approvalTaskRepository = approvalTaskRepository;
+    public RecordApprovalDecisionAction(ApprovalDecisionRepository approvalDecisionRepository,
+                                        ApprovalCommentRepository approvalCommentRepository,
+                                        WorkflowProgressTracker progressTracker) {
         this.approvalDecisionRepository = approvalDecisionRepository;
         this.approvalCommentRepository = approvalCommentRepository;
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -81,6 +81,6 @@ public class RecordApprovalDecisionAction implements Action<TaskStatus, Approval
         // Update task
         task.setActedAt(now);
         task.setStatus(decisionType == DecisionType.APPROVED ? TaskStatus.APPROVED : TaskStatus.REJECTED);
-        approvalTaskRepository.save(task);
+        progressTracker.markStepDirty(task.getStepInstanceId());
     }
 }
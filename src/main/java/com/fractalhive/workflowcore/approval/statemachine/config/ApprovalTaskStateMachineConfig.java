@@ -4,10 +4,10 @@ import com.fractalhive.workflowcore.approval.enums.ApprovalTaskEvent;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
 import com.fractalhive.workflowcore.approval.repository.ApprovalCommentRepository;
 import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionRepository;
-import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
 import com.fractalhive.workflowcore.approval.statemachine.action.*;
 import com.fractalhive.workflowcore.approval.statemachine.guard.DelegateAcceptGuard;
 import com.fractalhive.workflowcore.approval.statemachine.guard.TaskPendingGuard;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.statemachine.config.EnableStateMachineFactory;
 import org.springframework.statemachine.config.StateMachineConfigurerAdapter;
@@ -24,16 +24,16 @@ import java.util.Set;
 @EnableStateMachineFactory(name = "approvalTaskStateMachineFactory")
 public class ApprovalTaskStateMachineConfig extends StateMachineConfigurerAdapter<TaskStatus, ApprovalTaskEvent> {
 
-    private final ApprovalTaskRepository approvalTaskRepository;
     private final ApprovalDecisionRepository approvalDecisionRepository;
     private final ApprovalCommentRepository approvalCommentRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public ApprovalTaskStateMachineConfig(ApprovalTaskRepository approvalTaskRepository,
-                                         ApprovalDecisionRepository approvalDecisionRepository,
-                                         ApprovalCommentRepository approvalCommentRepository) {
-        this.approvalTaskRepository = approvalTaskRepository;
+    public ApprovalTaskStateMachineConfig(ApprovalDecisionRepository approvalDecisionRepository,
+                                         ApprovalCommentRepository approvalCommentRepository,
+                                         WorkflowProgressTracker progressTracker) {
         this.approvalDecisionRepository = approvalDecisionRepository;
         this.approvalCommentRepository = approvalCommentRepository;
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -50,11 +50,12 @@ public class ApprovalTaskStateMachineConfig extends StateMachineConfigurerAdapte
         DelegateAcceptGuard delegateAcceptGuard = new DelegateAcceptGuard();
         
         RecordApprovalDecisionAction recordApprovalDecisionAction = 
-            new RecordApprovalDecisionAction(approvalTaskRepository, approvalDecisionRepository, approvalCommentRepository);
-        DelegateTaskAction delegateTaskAction = new DelegateTaskAction(approvalTaskRepository);
-        AcceptDelegationAction acceptDelegationAction = new AcceptDelegationAction(approvalTaskRepository);
-        ExpireTaskAction expireTaskAction = new ExpireTaskAction(approvalTaskRepository);
-        CancelTaskAction cancelTaskAction = new CancelTaskAction(approvalTaskRepository);
+            new RecordApprovalDecisionAction(approvalDecisionRepository, approvalCommentRepository,
+                    progressTracker);
+        DelegateTaskAction delegateTaskAction = new DelegateTaskAction(progressTracker);
+        AcceptDelegationAction acceptDelegationAction = new AcceptDelegationAction(progressTracker);
+        ExpireTaskAction expireTaskAction = new ExpireTaskAction(progressTracker);
+        CancelTaskAction cancelTaskAction = new CancelTaskAction(progressTracker);
 
         transitions
             .withExternal()
@@ -90,6 +91,12 @@ public class ApprovalTaskStateMachineConfig extends StateMachineConfigurerAdapte
                 .event(ApprovalTaskEvent.WORKFLOW_CANCELLED)
                 .action(cancelTaskAction)
             .and()
+            .withExternal()
+                .source(TaskStatus.DELEGATED)
+                .target(TaskStatus.CANCELLED)
+                .event(ApprovalTaskEvent.WORKFLOW_CANCELLED)
+                .action(cancelTaskAction)
+            .and()
             .withExternal()
                 .source(TaskStatus.DELEGATED)
                 .target(TaskStatus.PENDING)
@@ -0,0 +1,102 @@
+package com.fractalhive.workflowcore.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Escape hatch from read-replica routing for flows that must see their own writes.
+ * <p>
+ * When {@code workflow-core.read-replica.enabled} is set, read-only transactions run on the replica, which
+ * may lag behind the primary. Work started inside a scope opened here runs every transaction on the primary,
+ * read-only or not:
+ * <pre>{@code
+ * workItemService.submit(id, request);
+ * WorkflowProgressResponse progress = ReadYourWrites.onPrimary(() -> workItemService.getWorkflowProgress(id));
+ * }</pre>
+ * Scopes are bound to the current thread and may be nested. They have no effect when replica routing is off.
+ * HTTP clients can request the same for a single call with the {@value #HEADER} header.
+ */
+public final class ReadYourWrites {
+
+    /**
+     * Request header that, when set to {@code true}, runs the whole request on the primary.
+     */
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Opens a scope in which transactions started on this thread use the primary. Close it in a
+     * try-with-resources block.
+     *
+     * @return the scope to close
+     */
+    public static Scope open() {
+        DEPTH.get()[0]++;
+        return new Scope();
+    }
+
+    /**
+     * Runs an action with every transaction it starts on the primary.
+     *
+     * @param action the action
+     * @param <T>    the result type
+     * @return the action's result
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Scope scope = open();
+        try {
+            return action.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Runs an action with every transaction it starts on the primary.
+     *
+     * @param action the action
+     */
+    public static void onPrimary(Runnable action) {
+        Scope scope = open();
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Whether the current thread is inside a scope.
+     *
+     * @return true if transactions must use the primary
+     */
+    public static boolean isActive() {
+        return DEPTH.get()[0] > 0;
+    }
+
+    /**
+     * A read-your-writes scope; closing it more than once has no further effect.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private boolean closed;
+
+        private Scope() {
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            int[] depth = DEPTH.get();
+            if (--depth[0] <= 0) {
+                DEPTH.remove();
+            }
+        }
+    }
+}
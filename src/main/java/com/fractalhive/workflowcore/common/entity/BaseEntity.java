@@ -1,5 +1,6 @@
 package com.fractalhive.workflowcore.common.entity;
 
+import com.fractalhive.workflowcore.common.id.WorkflowId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,8 @@ import java.util.UUID;
 
 /**
  * Base entity providing common fields for all entities.
- * Uses UUID primary keys and timestamptz for PostgreSQL compatibility.
+ * Uses UUID primary keys (time-ordered on new databases, see {@link WorkflowId}) and timestamptz
+ * for PostgreSQL compatibility.
  */
 @MappedSuperclass
 @Getter
@@ -17,7 +19,7 @@ import java.util.UUID;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @WorkflowId
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
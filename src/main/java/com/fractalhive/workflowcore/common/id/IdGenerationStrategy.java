@@ -0,0 +1,26 @@
+package com.fractalhive.workflowcore.common.id;
+
+import java.util.UUID;
+
+/**
+ * Produces primary keys for entities extending {@code BaseEntity}.
+ * <p>
+ * The strategy is selected with {@code workflow-core.id.strategy}: {@code uuid-v7}, {@code random}, or the
+ * fully qualified name of an implementation with a public no-arg constructor. The default, {@code auto}, picks
+ * {@code uuid-v7} for new databases and {@code random} for databases that already hold random ids.
+ * One instance is shared by all entities, so implementations must be thread-safe.
+ */
+public interface IdGenerationStrategy {
+
+    /**
+     * Hibernate setting carrying the configured strategy to {@link WorkflowIdGenerator}.
+     */
+    String SETTING = "workflow_core.id_strategy";
+
+    /**
+     * Returns a new, unique identifier.
+     *
+     * @return the identifier
+     */
+    UUID nextId();
+}
@@ -0,0 +1,15 @@
+package com.fractalhive.workflowcore.common.id;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) UUIDs, as produced by {@code GenerationType.UUID}.
+ * Kept for installations that want to stay on the previous id layout.
+ */
+public class RandomUuidStrategy implements IdGenerationStrategy {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
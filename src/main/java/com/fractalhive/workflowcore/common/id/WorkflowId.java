@@ -0,0 +1,17 @@
+package com.fractalhive.workflowcore.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an identifier as generated by the configured {@link IdGenerationStrategy}.
+ */
+@IdGeneratorType(WorkflowIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface WorkflowId {
+}
@@ -0,0 +1,64 @@
+package com.fractalhive.workflowcore.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate generator behind {@link WorkflowId}. Hibernate creates one generator per entity; they all
+ * delegate to a single shared {@link IdGenerationStrategy} per configured name so that time-ordered
+ * ids stay monotonic across entities.
+ */
+public class WorkflowIdGenerator implements BeforeExecutionGenerator {
+
+    static final String UUID_V7 = "uuid-v7";
+    static final String RANDOM = "random";
+
+    private static final Map<String, IdGenerationStrategy> STRATEGIES = new ConcurrentHashMap<>();
+
+    private final IdGenerationStrategy strategy;
+
+    public WorkflowIdGenerator(WorkflowId annotation, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configuration = context.getServiceRegistry().getService(ConfigurationService.class);
+        String name = configuration.getSetting(IdGenerationStrategy.SETTING, value -> value.toString().trim(), RANDOM);
+        this.strategy = STRATEGIES.computeIfAbsent(name, WorkflowIdGenerator::createStrategy);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return strategy.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private static IdGenerationStrategy createStrategy(String name) {
+        if (UUID_V7.equalsIgnoreCase(name)) {
+            return new TimeOrderedUuidStrategy();
+        }
+        if (RANDOM.equalsIgnoreCase(name)) {
+            return new RandomUuidStrategy();
+        }
+        try {
+            Class<?> type = ClassUtils.forName(name, null);
+            if (!IdGenerationStrategy.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException(name + " does not implement " + IdGenerationStrategy.class.getName());
+            }
+            return (IdGenerationStrategy) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create id generation strategy: " + name, e);
+        }
+    }
+}
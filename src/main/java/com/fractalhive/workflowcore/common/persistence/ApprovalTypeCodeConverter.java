@@ -0,0 +1,19 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.approval.enums.ApprovalType;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link ApprovalType}.
+ */
+public class ApprovalTypeCodeConverter extends EnumCodeConverter<ApprovalType> {
+
+    public ApprovalTypeCodeConverter() {
+        super(ApprovalType.class, Map.of(
+                ApprovalType.ALL, 1,
+                ApprovalType.ANY, 2,
+                ApprovalType.N_OF_M, 3
+        ));
+    }
+}
@@ -0,0 +1,19 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.approval.enums.ApproverType;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link ApproverType}.
+ */
+public class ApproverTypeCodeConverter extends EnumCodeConverter<ApproverType> {
+
+    public ApproverTypeCodeConverter() {
+        super(ApproverType.class, Map.of(
+                ApproverType.USER, 1,
+                ApproverType.ROLE, 2,
+                ApproverType.MANAGER, 3
+        ));
+    }
+}
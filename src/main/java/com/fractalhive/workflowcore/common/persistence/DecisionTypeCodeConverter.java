@@ -0,0 +1,18 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.approval.enums.DecisionType;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link DecisionType}.
+ */
+public class DecisionTypeCodeConverter extends EnumCodeConverter<DecisionType> {
+
+    public DecisionTypeCodeConverter() {
+        super(DecisionType.class, Map.of(
+                DecisionType.APPROVED, 1,
+                DecisionType.REJECTED, 2
+        ));
+    }
+}
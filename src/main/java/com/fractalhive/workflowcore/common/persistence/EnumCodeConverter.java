@@ -0,0 +1,60 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.lang.reflect.Array;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Stores an enum as a stable {@code smallint} code instead of its name.
+ * <p>
+ * Only used when compact enum storage is enabled ({@code workflow-core.storage.compact-enums=true}),
+ * which maps the status and type columns through the subclasses of this converter. Codes are part of
+ * the database format: never change or reuse a code, only append new ones, and keep
+ * {@code db/workflow-core/compact-enums-postgresql.sql} in line.
+ *
+ * @param <E> the enum type
+ */
+public abstract class EnumCodeConverter<E extends Enum<E>> implements AttributeConverter<E, Short> {
+
+    private final Class<E> enumType;
+    private final Map<E, Short> codes;
+    private final E[] valuesByCode;
+
+    @SuppressWarnings("unchecked")
+    protected EnumCodeConverter(Class<E> enumType, Map<E, Integer> codes) {
+        this.enumType = enumType;
+        this.codes = new EnumMap<>(enumType);
+        int maxCode = codes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        this.valuesByCode = (E[]) Array.newInstance(enumType, maxCode + 1);
+
+        for (E constant : enumType.getEnumConstants()) {
+            Integer code = codes.get(constant);
+            if (code == null || code <= 0) {
+                throw new IllegalStateException("No positive storage code for " + enumType.getSimpleName() + "." + constant);
+            }
+            if (valuesByCode[code] != null) {
+                throw new IllegalStateException("Duplicate storage code " + code + " in " + enumType.getSimpleName());
+            }
+            valuesByCode[code] = constant;
+            this.codes.put(constant, code.shortValue());
+        }
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : codes.get(attribute);
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData <= 0 || dbData >= valuesByCode.length || valuesByCode[dbData] == null) {
+            throw new IllegalArgumentException("Unknown " + enumType.getSimpleName() + " code: " + dbData);
+        }
+        return valuesByCode[dbData];
+    }
+}
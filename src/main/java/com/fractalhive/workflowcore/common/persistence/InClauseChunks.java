@@ -0,0 +1,42 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Splits the values of an {@code IN} list over several queries. PostgreSQL accepts at most 32767 bind
+ * parameters per statement, so a query that binds one parameter per ID fails once enough IDs are passed.
+ */
+public final class InClauseChunks {
+
+    /**
+     * Largest number of values bound in a single query.
+     */
+    public static final int MAX_SIZE = 1000;
+
+    private InClauseChunks() {
+    }
+
+    /**
+     * Runs a query once per chunk of at most {@value #MAX_SIZE} values and concatenates the results in
+     * chunk order. Rows belonging to one value are always returned by the same query, so an ordering the
+     * query applies per value is preserved.
+     *
+     * @param values the values of the IN list
+     * @param query  the query, run with one chunk of values
+     * @param <T>    the value type
+     * @param <R>    the row type
+     * @return the rows of all queries
+     */
+    public static <T, R> List<R> query(List<T> values, Function<List<T>, List<R>> query) {
+        if (values.size() <= MAX_SIZE) {
+            return query.apply(values);
+        }
+        List<R> rows = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += MAX_SIZE) {
+            rows.addAll(query.apply(values.subList(from, Math.min(from + MAX_SIZE, values.size()))));
+        }
+        return rows;
+    }
+}
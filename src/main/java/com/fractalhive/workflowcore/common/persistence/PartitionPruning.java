@@ -0,0 +1,34 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+/**
+ * Lower bounds on {@code created_at} that let PostgreSQL skip partitions when the approval tables are
+ * partitioned by month. A child row (task, decision, comment) is always created after its parent, so
+ * {@code created_at >= parent.created_at} never excludes a matching row. On unpartitioned tables the
+ * predicate is merely redundant.
+ */
+public final class PartitionPruning {
+
+    /**
+     * Allowance for clock differences between the application nodes that wrote the parent and the child.
+     */
+    static final Duration CLOCK_SKEW = Duration.ofDays(1);
+
+    private PartitionPruning() {
+    }
+
+    /**
+     * Returns the earliest {@code created_at} a row created after the given parent can have.
+     *
+     * @param parentCreatedAt creation time of the parent row, may be null
+     * @return a lower bound for the child's {@code created_at}; the epoch if the parent time is unknown
+     */
+    public static Timestamp notBefore(Timestamp parentCreatedAt) {
+        if (parentCreatedAt == null) {
+            return new Timestamp(0L);
+        }
+        return Timestamp.from(parentCreatedAt.toInstant().minus(CLOCK_SKEW));
+    }
+}
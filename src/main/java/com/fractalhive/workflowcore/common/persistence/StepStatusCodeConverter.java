@@ -0,0 +1,20 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.workflow.enums.StepStatus;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link StepStatus}.
+ */
+public class StepStatusCodeConverter extends EnumCodeConverter<StepStatus> {
+
+    public StepStatusCodeConverter() {
+        super(StepStatus.class, Map.of(
+                StepStatus.NOT_STARTED, 1,
+                StepStatus.IN_PROGRESS, 2,
+                StepStatus.COMPLETED, 3,
+                StepStatus.FAILED, 4
+        ));
+    }
+}
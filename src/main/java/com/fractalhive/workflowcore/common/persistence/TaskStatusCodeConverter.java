@@ -0,0 +1,22 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link TaskStatus}.
+ */
+public class TaskStatusCodeConverter extends EnumCodeConverter<TaskStatus> {
+
+    public TaskStatusCodeConverter() {
+        super(TaskStatus.class, Map.of(
+                TaskStatus.PENDING, 1,
+                TaskStatus.APPROVED, 2,
+                TaskStatus.REJECTED, 3,
+                TaskStatus.DELEGATED, 4,
+                TaskStatus.EXPIRED, 5,
+                TaskStatus.CANCELLED, 6
+        ));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link WorkItemStatus}.
+ */
+public class WorkItemStatusCodeConverter extends EnumCodeConverter<WorkItemStatus> {
+
+    public WorkItemStatusCodeConverter() {
+        super(WorkItemStatus.class, Map.of(
+                WorkItemStatus.DRAFT, 1,
+                WorkItemStatus.SUBMITTED, 2,
+                WorkItemStatus.IN_REVIEW, 3,
+                WorkItemStatus.REWORK, 4,
+                WorkItemStatus.APPROVED, 5,
+                WorkItemStatus.REJECTED, 6,
+                WorkItemStatus.CANCELLED, 7,
+                WorkItemStatus.ARCHIVED, 8
+        ));
+    }
+}
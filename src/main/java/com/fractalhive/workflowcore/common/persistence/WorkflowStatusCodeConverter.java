@@ -0,0 +1,21 @@
+package com.fractalhive.workflowcore.common.persistence;
+
+import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+
+import java.util.Map;
+
+/**
+ * Compact storage codes for {@link WorkflowStatus}.
+ */
+public class WorkflowStatusCodeConverter extends EnumCodeConverter<WorkflowStatus> {
+
+    public WorkflowStatusCodeConverter() {
+        super(WorkflowStatus.class, Map.of(
+                WorkflowStatus.NOT_STARTED, 1,
+                WorkflowStatus.IN_PROGRESS, 2,
+                WorkflowStatus.COMPLETED, 3,
+                WorkflowStatus.FAILED, 4,
+                WorkflowStatus.CANCELLED, 5
+        ));
+    }
+}
@@ -0,0 +1,46 @@
+package com.fractalhive.workflowcore.common.web;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Strong entity tags for conditional GET requests. A tag is derived from the version columns
+ * ({@code updated_at}, statuses, version numbers) of the rows a response is assembled from, so it can be
+ * checked against {@code If-None-Match} after a single narrow lookup, before the response is built.
+ */
+public final class EntityTags {
+
+    private static final int TAG_BYTES = 12;
+
+    private EntityTags() {
+    }
+
+    /**
+     * Builds a quoted entity tag from version values. Timestamps are compared as instants, so nodes
+     * running in different time zones produce the same tag.
+     *
+     * @param versions the values that change whenever the response changes; nulls are allowed
+     * @return the quoted entity tag
+     */
+    public static String of(Object... versions) {
+        StringBuilder raw = new StringBuilder();
+        for (Object version : versions) {
+            if (raw.length() > 0) {
+                raw.append('|');
+            }
+            raw.append(version instanceof Timestamp timestamp ? timestamp.toInstant() : version);
+        }
+
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(raw.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TAG_BYTES)) + "\"";
+    }
+}
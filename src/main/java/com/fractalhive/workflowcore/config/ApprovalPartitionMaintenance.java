@@ -0,0 +1,241 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.approval.service.ApprovalTaskCountCache;
+import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the monthly partitions of {@code approval_task}, {@code approval_decision} and
+ * {@code approval_comment} in shape: partitions for the coming months are created ahead of time, and months
+ * older than the configured retention are detached (and optionally dropped) once no unfinished workflow or open
+ * task remains in them.
+ * <p>
+ * Partitions are named {@code <table>_pYYYY_MM} and cover one calendar month in UTC. Each table also has a
+ * DEFAULT partition, {@code <table>_default}, so inserts keep working if maintenance stops for longer than
+ * {@code premake-months}. Rows that landed there are moved into their month's partition when it is created. Tables that have not been
+ * converted with {@code db/workflow-core/partition-approval-tables-postgresql.sql} are skipped with a warning.
+ * Runs at startup and then on a private single-thread scheduler, which is not exposed as a bean.
+ */
+public class ApprovalPartitionMaintenance implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalPartitionMaintenance.class);
+
+    /**
+     * Partitioned tables, parents first so that a month is created for tasks before their decisions and comments.
+     */
+    static final List<String> TABLES = List.of("approval_task", "approval_decision", "approval_comment");
+
+    private static final EnumSet<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.DELEGATED);
+
+    private static final EnumSet<WorkflowStatus> UNFINISHED_WORKFLOW_STATUSES =
+            EnumSet.of(WorkflowStatus.NOT_STARTED, WorkflowStatus.IN_PROGRESS);
+
+    private static final String DEFAULT_SUFFIX = "_default";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-'01 00:00:00+00'");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final ApprovalTaskCountCache taskCountCache;
+    private final WorkflowCoreProperties.Partitioning settings;
+    private ScheduledExecutorService scheduler;
+
+    public ApprovalPartitionMaintenance(DataSource dataSource,
+                                        ApprovalTaskRepository approvalTaskRepository,
+                                        WorkflowInstanceRepository workflowInstanceRepository,
+                                        ApprovalTaskCountCache taskCountCache,
+                                        WorkflowCoreProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.approvalTaskRepository = approvalTaskRepository;
+        this.workflowInstanceRepository = workflowInstanceRepository;
+        this.taskCountCache = taskCountCache;
+        this.settings = properties.getPartitioning();
+    }
+
+    /**
+     * Creates the DEFAULT partitions and the partitions of the current and the configured number of upcoming
+     * months, then detaches partitions that fell out of retention.
+     */
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (String table : TABLES) {
+            if (!isPartitioned(table)) {
+                logger.warn("Table {} is not partitioned; run db/workflow-core/partition-approval-tables-postgresql.sql "
+                        + "or disable workflow-core.partitioning", table);
+                continue;
+            }
+            createDefaultPartition(table);
+            for (int i = 0; i <= Math.max(0, settings.getPremakeMonths()); i++) {
+                createPartition(table, current.plusMonths(i));
+            }
+        }
+        if (settings.getRetentionMonths() > 0) {
+            detachExpired(current.minusMonths(settings.getRetentionMonths()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSchedule() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-partition-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = settings.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runScheduled, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Approval partition maintenance scheduled every {} ({} months ahead, retention {} months)",
+                settings.getInterval(), settings.getPremakeMonths(), settings.getRetentionMonths());
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void runScheduled() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; every step is idempotent and is retried on the next run
+            logger.warn("Approval partition maintenance failed", e);
+        }
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private void createDefaultPartition(String table) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + DEFAULT_SUFFIX + " PARTITION OF " + table + " DEFAULT");
+    }
+
+    /**
+     * Creates the partition of a month. Attaching it fails while the DEFAULT partition holds rows of that month,
+     * so those are moved over in the same transaction, with the DEFAULT partition detached meanwhile. Inserts
+     * into the table wait for the transaction rather than fail.
+     */
+    private void createPartition(String table, YearMonth month) {
+        String partition = partitionName(table, month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+            return;
+        }
+        String bounds = "FOR VALUES FROM ('" + month.format(BOUND) + "') TO ('" + month.plusMonths(1).format(BOUND) + "')";
+        String defaultPartition = table + DEFAULT_SUFFIX;
+        String inMonth = " WHERE created_at >= '" + month.format(BOUND) + "' AND created_at < '"
+                + month.plusMonths(1).format(BOUND) + "'";
+        Boolean misplaced = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + defaultPartition + inMonth + ")", Boolean.class);
+        if (!Boolean.TRUE.equals(misplaced)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table + " " + bounds);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + defaultPartition);
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table + " " + bounds);
+            int moved = jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + defaultPartition + inMonth);
+            jdbcTemplate.update("DELETE FROM " + defaultPartition + inMonth);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+            logger.warn("Moved {} row(s) of {} from {} into {}; partition maintenance fell behind",
+                    moved, month, defaultPartition, partition);
+        });
+    }
+
+    /**
+     * Detaches every month that ends on or before {@code oldestKept}, except months at or after the one in which
+     * the oldest unfinished workflow was created: its tasks, decisions and comments are still read, and more of
+     * them are still to come. The month of the oldest open task is kept as well.
+     */
+    private void detachExpired(YearMonth oldestKept) {
+        YearMonth cutoff = oldestKept;
+        Optional<Instant> oldestUnfinished = workflowInstanceRepository
+                .findFirstByStatusInOrderByCreatedAtAsc(UNFINISHED_WORKFLOW_STATUSES)
+                .map(instance -> instance.getCreatedAt().toInstant());
+        Optional<Instant> oldestOpen = approvalTaskRepository.findFirstByStatusInOrderByCreatedAtAsc(OPEN_STATUSES)
+                .map(task -> task.getCreatedAt().toInstant());
+        for (Optional<Instant> oldest : List.of(oldestUnfinished, oldestOpen)) {
+            if (oldest.isPresent()) {
+                YearMonth month = YearMonth.from(oldest.get().atZone(ZoneOffset.UTC));
+                if (month.isBefore(cutoff)) {
+                    cutoff = month;
+                }
+            }
+        }
+        for (String table : TABLES) {
+            List<String> partitions = jdbcTemplate.queryForList(
+                    "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                            + "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname", String.class, table);
+            for (String partition : partitions) {
+                Optional<YearMonth> month = monthOf(table, partition);
+                if (month.isPresent() && month.get().isBefore(cutoff)) {
+                    detach(table, partition);
+                }
+            }
+        }
+    }
+
+    private void detach(String table, String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        if ("approval_task".equals(table)) {
+            taskCountCache.evictAll();
+        }
+        if (settings.isDropDetached()) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            logger.info("Dropped partition {} of {}", partition, table);
+        } else {
+            logger.info("Detached partition {} from {}", partition, table);
+        }
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + month.format(SUFFIX);
+    }
+
+    /**
+     * Parses the month of a partition created by this class; partitions named otherwise are left alone.
+     */
+    static Optional<YearMonth> monthOf(String table, String partition) {
+        String prefix = table + "_p";
+        if (!partition.startsWith(prefix)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partition.substring(prefix.length()), DateTimeFormatter.ofPattern("yyyy_MM")));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.fractalhive.workflowcore.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Opt-in compact enum storage. Adds a mapping file that overrides every status and type column of the
+ * workflow-core entities with a {@code smallint} code converter, leaving the annotations (and the
+ * default string storage) untouched when the feature is off.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "workflow-core.storage", name = "compact-enums", havingValue = "true")
+public class CompactEnumStorageConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactEnumStorageConfiguration.class);
+
+    static final String COMPACT_ENUMS_MAPPING = "META-INF/workflow-core/compact-enums-orm.xml";
+
+    @Bean
+    public HibernatePropertiesCustomizer compactEnumStorageHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            // Hibernate expects a list of resource names; keep any mapping files the application added
+            List<String> mappingFiles = new ArrayList<>();
+            if (hibernateProperties.get(AvailableSettings.ORM_XML_FILES) instanceof Collection<?> existing) {
+                existing.forEach(file -> mappingFiles.add(String.valueOf(file)));
+            }
+            mappingFiles.add(COMPACT_ENUMS_MAPPING);
+            hibernateProperties.put(AvailableSettings.ORM_XML_FILES, mappingFiles);
+            logger.info("Compact enum storage enabled: status and type columns are mapped to smallint codes");
+        };
+    }
+}
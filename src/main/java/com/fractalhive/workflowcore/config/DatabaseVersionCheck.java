@@ -0,0 +1,49 @@
+package com.fractalhive.workflowcore.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Refuses to start on a PostgreSQL server older than {@value #MINIMUM_MAJOR_VERSION}. Every approval task
+ * insert and update records its transaction ID with {@code pg_current_xact_id()}, which older servers lack,
+ * so without this check the application would start and then fail on the first task it creates.
+ * Databases that do not identify as PostgreSQL are only logged.
+ */
+class DatabaseVersionCheck implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseVersionCheck.class);
+
+    static final int MINIMUM_MAJOR_VERSION = 13;
+
+    private final DataSource dataSource;
+
+    DatabaseVersionCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String product = metaData.getDatabaseProductName();
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                logger.warn("workflow-core requires PostgreSQL {} or later; running on {} {}",
+                        MINIMUM_MAJOR_VERSION, product, metaData.getDatabaseProductVersion());
+                return;
+            }
+            if (metaData.getDatabaseMajorVersion() < MINIMUM_MAJOR_VERSION) {
+                throw new IllegalStateException(String.format(
+                        "workflow-core requires PostgreSQL %d or later, but the database is PostgreSQL %s",
+                        MINIMUM_MAJOR_VERSION, metaData.getDatabaseProductVersion()));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot determine the database version", e);
+        }
+    }
+}
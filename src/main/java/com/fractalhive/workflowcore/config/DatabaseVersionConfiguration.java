@@ -0,0 +1,18 @@
+package com.fractalhive.workflowcore.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Checks at startup that the database is recent enough for workflow-core, see {@link DatabaseVersionCheck}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DatabaseVersionConfiguration {
+
+    @Bean
+    DatabaseVersionCheck workflowCoreDatabaseVersionCheck(DataSource dataSource) {
+        return new DatabaseVersionCheck(dataSource);
+    }
+}
@@ -0,0 +1,97 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.workflow.entity.DefinitionCacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * Opt-in Hibernate second-level cache for workflow definitions, step definitions and step approvers.
+ * <p>
+ * Enabled with {@code workflow-core.cache.enabled=true} when {@code hibernate-jcache} and Caffeine's
+ * {@code jcache} module are on the classpath. Definition entities are cached READ_WRITE and the hot
+ * definition lookups are query-cached, so Hibernate invalidates entries itself whenever the definition
+ * service saves, deletes or bulk-updates them. Entries also expire after
+ * {@code workflow-core.cache.time-to-live} to bound staleness across nodes, since the cache is local.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "workflow-core.cache", name = "enabled", havingValue = "true")
+@ConditionalOnClass(name = {
+    "org.hibernate.cache.jcache.ConfigSettings",
+    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"
+})
+public class DefinitionCacheConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefinitionCacheConfiguration.class);
+
+    /**
+     * Dedicated cache manager URI so definition regions never share a manager with the host application.
+     */
+    private static final URI CACHE_MANAGER_URI = URI.create("workflow-core:definition-cache");
+
+    @Bean
+    public HibernatePropertiesCustomizer definitionCacheHibernatePropertiesCustomizer(WorkflowCoreProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(properties.getCache()));
+            // Hibernate's own timestamp and default query regions are created on demand
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            // Statistics feed the hit-ratio metrics; per-session statistics logging stays off
+            hibernateProperties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    public DefinitionCacheMetrics definitionCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DefinitionCacheMetrics(entityManagerFactory, meterRegistry);
+    }
+
+    /**
+     * Creates the Caffeine-backed cache manager with one bounded, expiring cache per definition region.
+     * Hibernate takes ownership of the manager and closes it when the session factory shuts down.
+     */
+    private static CacheManager createCacheManager(WorkflowCoreProperties.Cache settings) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, DefinitionCacheConfiguration.class.getClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(settings.getMaxEntries()));
+        configuration.setExpireAfterWrite(OptionalLong.of(settings.getTimeToLive().toNanos()));
+
+        for (String region : DefinitionCacheRegions.ENTITY_REGIONS) {
+            createIfMissing(cacheManager, region, configuration);
+        }
+        createIfMissing(cacheManager, DefinitionCacheRegions.DEFINITION_QUERIES, configuration);
+
+        logger.info("Definition second-level cache enabled (timeToLive={}, maxEntries={})",
+                settings.getTimeToLive(), settings.getMaxEntries());
+        return cacheManager;
+    }
+
+    private static void createIfMissing(CacheManager cacheManager, String region,
+                                        CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, configuration);
+        }
+    }
+}
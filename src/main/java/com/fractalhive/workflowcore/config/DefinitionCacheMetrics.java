@@ -0,0 +1,82 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.workflow.entity.DefinitionCacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes hit, miss and put counts plus a hit ratio for each definition cache region.
+ * Meters are tagged with {@code region}; nothing is registered when no MeterRegistry is available.
+ */
+public class DefinitionCacheMetrics {
+
+    private final Statistics statistics;
+
+    public DefinitionCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        for (String region : DefinitionCacheRegions.ENTITY_REGIONS) {
+            register(registry, region);
+        }
+        register(registry, DefinitionCacheRegions.DEFINITION_QUERIES);
+    }
+
+    /**
+     * Returns the fraction of lookups in a region that were served from the cache.
+     *
+     * @param region the cache region name
+     * @return hit ratio between 0 and 1, or 0 if the region has not been used yet
+     */
+    public double hitRatio(String region) {
+        long hits = count(region, CacheRegionStatistics::getHitCount);
+        long lookups = hits + count(region, CacheRegionStatistics::getMissCount);
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    private void register(MeterRegistry registry, String region) {
+        FunctionCounter.builder("workflow.definition.cache.hits", this,
+                        metrics -> metrics.count(region, CacheRegionStatistics::getHitCount))
+                .description("Definition cache lookups served from the second-level cache")
+                .tag("region", region)
+                .register(registry);
+        FunctionCounter.builder("workflow.definition.cache.misses", this,
+                        metrics -> metrics.count(region, CacheRegionStatistics::getMissCount))
+                .description("Definition cache lookups that went to the database")
+                .tag("region", region)
+                .register(registry);
+        FunctionCounter.builder("workflow.definition.cache.puts", this,
+                        metrics -> metrics.count(region, CacheRegionStatistics::getPutCount))
+                .description("Entries written to the definition cache")
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("workflow.definition.cache.hit.ratio", this, metrics -> metrics.hitRatio(region))
+                .description("Fraction of definition cache lookups served from the cache")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    /**
+     * Regions are created lazily (query regions on first use), so statistics are looked up on every read.
+     */
+    private long count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        try {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : counter.applyAsLong(regionStatistics);
+        } catch (IllegalArgumentException e) {
+            // Region not built yet
+            return 0;
+        }
+    }
+}
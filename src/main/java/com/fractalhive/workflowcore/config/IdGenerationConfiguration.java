@@ -0,0 +1,64 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.common.id.IdGenerationStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands the configured id generation strategy to Hibernate, where {@code WorkflowIdGenerator} picks it up.
+ * <p>
+ * The default, {@code auto}, is resolved once at startup: a database whose workflow definitions all have
+ * version 7 ids, or that has none yet, gets {@code uuid-v7}; a database created by an earlier release, which
+ * holds random ids, keeps {@code random}, so upgrading never starts mixing id formats on its own.
+ */
+@Configuration(proxyBeanMethods = false)
+public class IdGenerationConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGenerationConfiguration.class);
+
+    static final String AUTO = "auto";
+
+    /**
+     * Counts definitions whose id is not a version 7 UUID; the version is the 15th character of the text form.
+     */
+    private static final String COUNT_NON_V7_DEFINITIONS =
+            "SELECT count(*) FROM workflow_definition WHERE CAST(id AS VARCHAR(36)) NOT LIKE '______________7%'";
+
+    @Bean
+    public HibernatePropertiesCustomizer idGenerationHibernatePropertiesCustomizer(
+            WorkflowCoreProperties properties, ObjectProvider<DataSource> dataSource) {
+        return hibernateProperties -> hibernateProperties.computeIfAbsent(IdGenerationStrategy.SETTING,
+                setting -> resolve(properties.getId().getStrategy(), dataSource.getIfUnique()));
+    }
+
+    private static String resolve(String strategy, DataSource dataSource) {
+        if (!AUTO.equalsIgnoreCase(strategy.trim())) {
+            return strategy;
+        }
+        if (dataSource == null) {
+            logger.info("Cannot inspect existing ids without a unique DataSource; using random UUIDs");
+            return "random";
+        }
+        Long randomIds;
+        try {
+            randomIds = new JdbcTemplate(dataSource).queryForObject(COUNT_NON_V7_DEFINITIONS, Long.class);
+        } catch (DataAccessException e) {
+            // The schema has not been created yet
+            randomIds = 0L;
+        }
+        if (randomIds != null && randomIds > 0) {
+            logger.info("Existing workflow definitions use random UUIDs; new rows keep random ids. "
+                    + "Set workflow-core.id.strategy=uuid-v7 to switch to time-ordered ids");
+            return "random";
+        }
+        return "uuid-v7";
+    }
+}
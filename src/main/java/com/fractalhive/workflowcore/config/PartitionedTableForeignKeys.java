@@ -0,0 +1,42 @@
+package com.fractalhive.workflowcore.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Table;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Set;
+
+/**
+ * Keeps Hibernate's schema tooling from creating foreign keys that reference a partitioned approval table.
+ * A partitioned table's primary key includes {@code created_at}, so no constraint can reference its
+ * {@code id} alone. The associations themselves stay mapped; only the DDL is suppressed.
+ */
+class PartitionedTableForeignKeys implements Integrator {
+
+    private final Set<String> partitionedTables;
+
+    PartitionedTableForeignKeys(Set<String> partitionedTables) {
+        this.partitionedTables = partitionedTables;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        for (Table table : metadata.collectTableMappings()) {
+            for (ForeignKey foreignKey : table.getForeignKeys().values()) {
+                Table referenced = foreignKey.getReferencedTable();
+                if (referenced != null && partitionedTables.contains(referenced.getName())) {
+                    foreignKey.disableCreation();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.approval.service.ApprovalTaskCountCache;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Opt-in monthly range partitioning of the approval task, decision and comment tables by {@code created_at}.
+ * Keeps Hibernate from generating the foreign keys no partitioned table can satisfy, and runs the partition
+ * maintenance job.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "workflow-core.partitioning", name = "enabled", havingValue = "true")
+public class PartitioningConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitioningConfiguration.class);
+
+    @Bean
+    public HibernatePropertiesCustomizer partitioningHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            // Keep any integrators the application registered through the same setting
+            Object existing = hibernateProperties.get(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER);
+            Integrator foreignKeys = new PartitionedTableForeignKeys(
+                    new HashSet<>(ApprovalPartitionMaintenance.TABLES));
+            IntegratorProvider provider = () -> {
+                List<Integrator> integrators = new ArrayList<>();
+                if (existing instanceof IntegratorProvider other) {
+                    integrators.addAll(other.getIntegrators());
+                }
+                integrators.add(foreignKeys);
+                return integrators;
+            };
+            hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, provider);
+            logger.info("Approval table partitioning enabled: task foreign keys are not enforced by the database");
+        };
+    }
+
+    @Bean
+    public ApprovalPartitionMaintenance approvalPartitionMaintenance(DataSource dataSource,
+                                                                     ApprovalTaskRepository approvalTaskRepository,
+                                                                     WorkflowInstanceRepository workflowInstanceRepository,
+                                                                     ApprovalTaskCountCache taskCountCache,
+                                                                     WorkflowCoreProperties properties) {
+        return new ApprovalPartitionMaintenance(dataSource, approvalTaskRepository, workflowInstanceRepository,
+                taskCountCache, properties);
+    }
+}
@@ -0,0 +1,116 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.common.datasource.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * Opt-in read-replica routing. Enabled with {@code workflow-core.read-replica.enabled=true}.
+ * <p>
+ * The application's primary DataSource bean is wrapped in a {@link ReadReplicaRoutingDataSource} that sends
+ * {@code @Transactional(readOnly = true)} work (the inbox, task, progress and listing reads) to a replica pool
+ * configured under {@code workflow-core.read-replica.datasource}. The replica pool is not registered as a bean,
+ * so the host application still sees exactly one DataSource. Flows that must read their own writes use
+ * {@link ReadYourWrites}, or the {@value ReadYourWrites#HEADER} request header.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "workflow-core.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfiguration.class);
+
+    static final String PREFIX = "workflow-core.read-replica";
+
+    @Bean
+    public static BeanPostProcessor readReplicaDataSourcePostProcessor(Environment environment) {
+        return new ReadReplicaDataSourcePostProcessor(environment);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = PREFIX, name = "honor-header", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter());
+    }
+
+    /**
+     * Wraps the primary DataSource bean once it is fully initialized.
+     */
+    static class ReadReplicaDataSourcePostProcessor implements BeanPostProcessor {
+
+        private final Environment environment;
+        private final String primaryBeanName;
+
+        ReadReplicaDataSourcePostProcessor(Environment environment) {
+            this.environment = environment;
+            this.primaryBeanName = environment.getProperty(PREFIX + ".primary-bean-name", "dataSource");
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || !primaryBeanName.equals(beanName)
+                    || bean instanceof ReadReplicaRoutingDataSource) {
+                return bean;
+            }
+            return new ReadReplicaRoutingDataSource(primary, createReplica());
+        }
+
+        private DataSource createReplica() {
+            Binder binder = Binder.get(environment);
+            DataSourceProperties properties = binder.bind(PREFIX + ".datasource", DataSourceProperties.class)
+                    .orElseGet(DataSourceProperties::new);
+            if (properties.getUrl() == null) {
+                throw new IllegalStateException(PREFIX + ".datasource.url must be set when read-replica routing is enabled");
+            }
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            binder.bind(PREFIX + ".datasource.hikari", Bindable.ofInstance(replica));
+            if (replica.getPoolName() == null) {
+                replica.setPoolName("workflow-core-replica");
+            }
+            // Rejects writes on the replica pool even if a misrouted transaction tries one
+            replica.setReadOnly(true);
+            logger.info("Read-only transactions are routed to replica {}", properties.getUrl());
+            return replica;
+        }
+    }
+
+    /**
+     * Runs requests that carry {@code X-Read-Your-Writes: true} entirely on the primary.
+     */
+    static class ReadYourWritesFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            if (!Boolean.parseBoolean(request.getHeader(ReadYourWrites.HEADER))) {
+                chain.doFilter(request, response);
+                return;
+            }
+            ReadYourWrites.Scope scope = ReadYourWrites.open();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                scope.close();
+            }
+        }
+    }
+}
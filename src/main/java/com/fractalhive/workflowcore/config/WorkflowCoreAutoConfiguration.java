@@ -2,14 +2,17 @@ package com.fractalhive.workflowcore.config;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 /**
  * Auto-configuration class for workflow-core-starter.
  * Enables component scanning, JPA entity scanning, and JPA repository scanning for all workflow core packages.
+ * Binds {@link WorkflowCoreProperties} from the {@code workflow-core} prefix.
  */
 @AutoConfiguration
+@EnableConfigurationProperties(WorkflowCoreProperties.class)
 @ComponentScan(basePackages = {
     "com.fractalhive.workflowcore.workflow",
     "com.fractalhive.workflowcore.approval",
@@ -0,0 +1,368 @@
+package com.fractalhive.workflowcore.config;
+
+import com.fractalhive.workflowcore.approval.enums.ApproverOverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for workflow-core-starter.
+ * All properties are bound under the {@code workflow-core} prefix and have safe defaults.
+ */
+@Getter
+@ConfigurationProperties(prefix = "workflow-core")
+public class WorkflowCoreProperties {
+
+    private final ApproverResolution approverResolution = new ApproverResolution();
+
+    private final Cache cache = new Cache();
+
+    private final Batch batch = new Batch();
+
+    private final Id id = new Id();
+
+    private final Storage storage = new Storage();
+
+    private final History history = new History();
+
+    private final Partitioning partitioning = new Partitioning();
+
+    private final Retention retention = new Retention();
+
+    private final ReadReplica readReplica = new ReadReplica();
+
+    private final ProgressStream progressStream = new ProgressStream();
+
+    private final TaskCounts taskCounts = new TaskCounts();
+
+    /**
+     * Settings for resolving ROLE and MANAGER approvers via the ApproverResolver SPI.
+     */
+    @Getter
+    @Setter
+    public static class ApproverResolution {
+
+        /**
+         * Maximum time to wait for all approver lookups of an order group to complete.
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * Number of threads used to run blocking ApproverResolver lookups concurrently.
+         */
+        private int poolSize = 8;
+
+        /**
+         * Number of blocking lookups that may wait for a free thread. Lookups beyond that fail immediately,
+         * which rejects the transition that needed them.
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * Maximum number of distinct approvers (and therefore tasks) a single step may expand to.
+         * Zero or a negative value disables the limit, which is the default.
+         */
+        private int maxFanOut = 0;
+
+        /**
+         * What to do when a step expands to more than {@code maxFanOut} approvers.
+         */
+        private ApproverOverflowPolicy overflowPolicy = ApproverOverflowPolicy.FAIL;
+    }
+
+    /**
+     * Settings for the optional Hibernate second-level cache of workflow definitions,
+     * step definitions and step approvers. Requires {@code hibernate-jcache} and
+     * Caffeine's {@code jcache} module on the classpath.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Whether to enable the second-level and query cache for definition entities.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long a cached definition entry is kept after it was written.
+         * Bounds staleness when definitions are edited on another node.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * Maximum number of entries per cache region.
+         */
+        private long maxEntries = 10_000;
+
+        /**
+         * How long the name to active version index used by {@code startWorkflowByName} trusts an entry.
+         * Applies whether or not {@code enabled} is set; bounds how long this node keeps starting an older
+         * version after a newer one was created or activated on another node.
+         */
+        private Duration activeVersionTimeToLive = Duration.ofSeconds(5);
+    }
+
+    /**
+     * Settings for bulk operations such as batch workflow starts.
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * Number of items processed per transaction. Each chunk commits (or rolls back) on its own.
+         */
+        private int chunkSize = 500;
+
+        /**
+         * How long a {@code POST /api/workflows/start-batch} request may run before its response is closed.
+         * Overrides {@code spring.mvc.async.request-timeout} for that endpoint only.
+         */
+        private Duration requestTimeout = Duration.ofHours(1);
+
+        /**
+         * Statements per JDBC batch, applied as {@code hibernate.jdbc.batch_size} together with ordered inserts
+         * and updates unless the application sets these Hibernate properties itself.
+         */
+        private int jdbcBatchSize = 50;
+    }
+
+    /**
+     * Settings for primary key generation of all workflow-core entities.
+     */
+    @Getter
+    @Setter
+    public static class Id {
+
+        /**
+         * {@code auto} (the default) for time-ordered UUIDs on new databases and random UUIDs on databases that
+         * already hold them, {@code uuid-v7} for time-ordered UUIDs, {@code random} for version 4 UUIDs, or the
+         * fully qualified class name of an {@code IdGenerationStrategy} implementation.
+         */
+        private String strategy = "auto";
+    }
+
+    /**
+     * Settings for how entity columns are stored.
+     */
+    @Getter
+    @Setter
+    public static class Storage {
+
+        /**
+         * Whether status and type columns are stored as {@code smallint} codes instead of enum names.
+         * Existing databases must be migrated with {@code db/workflow-core/compact-enums-postgresql.sql}
+         * before this is switched on.
+         */
+        private boolean compactEnums = false;
+    }
+
+    /**
+     * Settings for moving the runtime rows of finished workflow instances to the history tables.
+     */
+    @Getter
+    @Setter
+    public static class History {
+
+        /**
+         * Whether the archiver runs periodically in the background.
+         * {@code WorkflowHistoryArchiver} can also be invoked directly when this is off.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long a completed, failed or cancelled workflow instance stays in the active tables.
+         */
+        private Duration retention = Duration.ofDays(30);
+
+        /**
+         * Delay between two archiver runs.
+         */
+        private Duration interval = Duration.ofHours(1);
+
+        /**
+         * Number of workflow instances moved per transaction.
+         */
+        private int batchSize = 100;
+    }
+
+    /**
+     * Settings for monthly range partitioning of the approval task, decision and comment tables by
+     * {@code created_at}. The tables must be converted first with
+     * {@code db/workflow-core/partition-approval-tables-postgresql.sql}.
+     */
+    @Getter
+    @Setter
+    public static class Partitioning {
+
+        /**
+         * Whether the approval tables are partitioned and the partition maintenance job runs.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of months ahead of the current one for which partitions are created in advance.
+         */
+        private int premakeMonths = 3;
+
+        /**
+         * Number of full months kept attached after the current one. Older partitions are detached once
+         * they no longer hold open tasks. Zero or a negative value never detaches partitions.
+         */
+        private int retentionMonths = 0;
+
+        /**
+         * Whether detached partitions are dropped rather than left behind as standalone tables.
+         */
+        private boolean dropDetached = false;
+
+        /**
+         * Delay between two maintenance runs. The first run happens at application startup.
+         */
+        private Duration interval = Duration.ofDays(1);
+    }
+
+    /**
+     * Settings for archiving and purging old work items in the background.
+     */
+    @Getter
+    @Setter
+    public static class Retention {
+
+        /**
+         * Whether the retention job runs periodically in the background.
+         * {@code WorkItemRetentionJob} can also be invoked directly when this is off.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time since the last status change after which APPROVED and REJECTED work items are moved to ARCHIVED.
+         */
+        private Duration archiveAfter = Duration.ofDays(90);
+
+        /**
+         * Whether ARCHIVED work items are eventually deleted, together with their versions, workflow
+         * instances, steps, tasks, decisions and comments.
+         */
+        private boolean purgeEnabled = false;
+
+        /**
+         * Time since archiving after which ARCHIVED work items are deleted when purging is enabled.
+         */
+        private Duration purgeAfter = Duration.ofDays(365);
+
+        /**
+         * Delay between two runs.
+         */
+        private Duration interval = Duration.ofHours(6);
+
+        /**
+         * Target duration of one chunk's transaction, and therefore of the row locks it holds.
+         * The chunk size is adjusted after every chunk to approach it.
+         */
+        private Duration targetLockHold = Duration.ofMillis(200);
+
+        /**
+         * Number of work items in the first chunk of a run.
+         */
+        private int initialChunkSize = 500;
+
+        /**
+         * Lower bound for the adaptive chunk size.
+         */
+        private int minChunkSize = 50;
+
+        /**
+         * Upper bound for the adaptive chunk size.
+         */
+        private int maxChunkSize = 5000;
+    }
+
+    /**
+     * Settings for routing read-only transactions to a replica. The replica pool itself is configured under
+     * {@code workflow-core.read-replica.datasource} with the same keys as {@code spring.datasource}
+     * ({@code url}, {@code username}, {@code password}, {@code hikari.*}).
+     */
+    @Getter
+    @Setter
+    public static class ReadReplica {
+
+        /**
+         * Whether read-only transactions run on the replica.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Name of the application's primary DataSource bean, which is wrapped by the router.
+         */
+        private String primaryBeanName = "dataSource";
+
+        /**
+         * Whether requests carrying {@code X-Read-Your-Writes: true} run entirely on the primary.
+         */
+        private boolean honorHeader = true;
+    }
+
+    /**
+     * Settings for the server-sent event stream of workflow progress.
+     */
+    @Getter
+    @Setter
+    public static class ProgressStream {
+
+        /**
+         * Maximum number of undelivered progress updates kept per subscriber. When a slow client falls behind,
+         * the oldest updates are dropped; each update is a full progress state, so the client still ends up
+         * with the latest one.
+         */
+        private int bufferSize = 16;
+
+        /**
+         * How long a stream stays open before the client has to reconnect.
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Interval of keep-alive comments, which also detect disconnected clients.
+         */
+        private Duration heartbeat = Duration.ofSeconds(20);
+
+        /**
+         * Number of threads that write updates to subscribers.
+         */
+        private int deliveryThreads = 2;
+
+        /**
+         * How long a single write to a subscriber may take. A client that stops reading blocks the write; its
+         * stream is cancelled after this long, and a replacement delivery thread is added until the write fails.
+         */
+        private Duration sendTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Settings for the per-approver task count endpoint.
+     */
+    @Getter
+    @Setter
+    public static class TaskCounts {
+
+        /**
+         * Whether counts are kept in a local per-approver cache. Entries are evicted when a task of the
+         * approver changes on this node.
+         */
+        private boolean cacheEnabled = false;
+
+        /**
+         * How long a cached count is served; bounds how stale counts get after changes made on other nodes.
+         */
+        private Duration timeToLive = Duration.ofSeconds(30);
+
+        /**
+         * Maximum number of approvers kept in the cache.
+         */
+        private long maxEntries = 10_000;
+    }
+}
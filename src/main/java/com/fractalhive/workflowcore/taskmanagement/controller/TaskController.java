@@ -17,6 +17,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -68,27 +69,90 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Lists the tasks of an approver created or changed since a change token.
+     *
+     * @param approverId the approver user ID
+     * @param since      token returned as nextToken by the previous call
+     * @param size       maximum number of changes to return
+     * @return the changed tasks, the tasks removed from the approver and the next token
+     */
+    @GetMapping("/changes")
+    @Operation(
+            summary = "List task changes for an approver",
+            description = "Retrieves only the tasks of an approver created or changed since the given token, oldest change first, "
+                    + "plus the IDs of tasks delegated or reassigned away. Omit since for the first call, then pass nextToken "
+                    + "from the response; call again immediately while hasMore is true"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved changes",
+                    content = @Content(schema = @Schema(implementation = TaskChangesResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid token or size")
+    })
+    public ResponseEntity<TaskChangesResponse> listTaskChanges(
+            @Parameter(description = "The approver user ID", required = true, example = "user123")
+            @RequestParam String approverId,
+            @Parameter(description = "Token returned as nextToken by the previous call; omit to start from the beginning")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes to return", example = "100")
+            @RequestParam(defaultValue = "100") int size) {
+        TaskChangesResponse changes = taskManagementService.getTaskChanges(approverId, since, size);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Gets the number of tasks of an approver per status, for inbox badges.
+     *
+     * @param approverId the approver user ID
+     * @return counts per status and their total
+     */
+    @GetMapping("/counts")
+    @Operation(
+            summary = "Count tasks for an approver",
+            description = "Retrieves the number of tasks assigned to an approver per status, with a single aggregate query. "
+                    + "Every status is listed, with 0 when the approver has no task in it"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved counts",
+                    content = @Content(schema = @Schema(implementation = TaskCountsResponse.class)))
+    })
+    public ResponseEntity<TaskCountsResponse> getTaskCounts(
+            @Parameter(description = "The approver user ID", required = true, example = "user123")
+            @RequestParam String approverId) {
+        TaskCountsResponse counts = taskManagementService.getTaskCounts(approverId);
+        return ResponseEntity.ok(counts);
+    }
+
     /**
      * Gets task details by task ID.
+     * Answers {@code If-None-Match} with 304 after a version lookup, without assembling the task.
      *
-     * @param taskId the task ID
-     * @return task details
+     * @param taskId     the task ID
+     * @param webRequest the current request, for conditional request handling
+     * @return task details, or 304 if the client's copy is current
      */
     @GetMapping("/{taskId}")
     @Operation(
             summary = "Get task by ID",
-            description = "Retrieves detailed information about a specific approval task"
+            description = "Retrieves detailed information about a specific approval task. "
+                    + "Returns an ETag; send it back as If-None-Match to get 304 Not Modified while the task is unchanged"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task found",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Task not found")
     })
     public ResponseEntity<TaskResponse> getTask(
             @Parameter(description = "The task ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID taskId) {
+            @PathVariable UUID taskId,
+            WebRequest webRequest) {
+        String eTag = taskManagementService.getTaskETag(taskId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         TaskResponse task = taskManagementService.getTask(taskId);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(eTag).body(task);
     }
 
     /**
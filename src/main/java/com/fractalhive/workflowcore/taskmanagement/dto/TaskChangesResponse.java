@@ -0,0 +1,38 @@
+package com.fractalhive.workflowcore.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for one page of an approver's task change feed.
+ * Clients upsert {@code tasks} by ID, drop {@code removedTaskIds}, store {@code nextToken}
+ * and ask again immediately while {@code hasMore} is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    /**
+     * Tasks of the approver created or changed since the token, in change order.
+     */
+    private List<TaskResponse> tasks;
+
+    /**
+     * Tasks delegated or reassigned away from the approver since the token.
+     */
+    private List<UUID> removedTaskIds;
+
+    /**
+     * Opaque token to pass as {@code since} on the next call; never null.
+     */
+    private String nextToken;
+
+    private boolean hasMore;
+}
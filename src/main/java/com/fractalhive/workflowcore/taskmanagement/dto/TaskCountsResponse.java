@@ -0,0 +1,24 @@
+package com.fractalhive.workflowcore.taskmanagement.dto;
+
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response DTO for the number of tasks of an approver in each status.
+ * Every status is present, with zero for statuses the approver has no task in.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCountsResponse {
+
+    private String approverId;
+    private Map<TaskStatus, Long> counts;
+    private long total;
+}
@@ -0,0 +1,31 @@
+package com.fractalhive.workflowcore.taskmanagement.resolver;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link ApproverResolver}.
+ * Host applications backed by remote directories (LDAP, HR systems, identity providers)
+ * can implement this interface so that all ROLE and MANAGER lookups of an order group
+ * run concurrently. Existing blocking implementations are adapted automatically via
+ * {@link BlockingApproverResolverAdapter}.
+ */
+public interface AsyncApproverResolver {
+
+    /**
+     * Resolves a role to a list of user IDs.
+     *
+     * @param role the role name
+     * @return future completing with the user IDs who have this role
+     */
+    CompletableFuture<List<String>> resolveRoleToUserIdsAsync(String role);
+
+    /**
+     * Resolves manager chain for a user.
+     * Returns the manager hierarchy starting from the direct manager.
+     *
+     * @param userId the user ID
+     * @return future completing with the manager user IDs (direct manager, manager's manager, etc.)
+     */
+    CompletableFuture<List<String>> resolveManagerChainAsync(String userId);
+}
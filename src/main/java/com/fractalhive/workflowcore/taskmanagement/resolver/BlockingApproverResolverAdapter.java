@@ -0,0 +1,61 @@
+package com.fractalhive.workflowcore.taskmanagement.resolver;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Adapts a blocking {@link ApproverResolver} to the {@link AsyncApproverResolver} SPI
+ * by running each lookup on the supplied executor.
+ * <p>
+ * Cancelling a returned future interrupts the thread running the lookup, so a resolver that blocks
+ * interruptibly frees its thread when the caller gives up. If the executor rejects a lookup, the returned
+ * future fails right away instead of the lookup waiting for a thread.
+ */
+public class BlockingApproverResolverAdapter implements AsyncApproverResolver {
+
+    private final ApproverResolver delegate;
+    private final ExecutorService executor;
+
+    public BlockingApproverResolverAdapter(ApproverResolver delegate, ExecutorService executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> resolveRoleToUserIdsAsync(String role) {
+        return submit(() -> delegate.resolveRoleToUserIds(role));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> resolveManagerChainAsync(String userId) {
+        return submit(() -> delegate.resolveManagerChain(userId));
+    }
+
+    private CompletableFuture<List<String>> submit(Supplier<List<String>> lookup) {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(lookup.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        // CompletableFuture.cancel never interrupts; cancel the pool task so its thread is interrupted
+        result.whenComplete((userIds, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+}
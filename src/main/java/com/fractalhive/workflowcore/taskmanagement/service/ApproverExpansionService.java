@@ -0,0 +1,142 @@
+package com.fractalhive.workflowcore.taskmanagement.service;
+
+import com.fractalhive.workflowcore.approval.enums.ApprovalType;
+import com.fractalhive.workflowcore.approval.enums.ApproverOverflowPolicy;
+import com.fractalhive.workflowcore.approval.enums.ApproverType;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepApprover;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Expands a step's resolved approvers into the final set of task assignees.
+ * Removes duplicate user IDs (e.g. a user who is both in a ROLE and a MANAGER chain),
+ * then enforces the configured maximum fan-out per step.
+ */
+@Service
+public class ApproverExpansionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApproverExpansionService.class);
+
+    private final WorkflowCoreProperties.ApproverResolution settings;
+    private final DistributionSummary expansionSize;
+    private final Counter duplicatesRemoved;
+    private final Counter overflowTruncated;
+
+    public ApproverExpansionService(WorkflowCoreProperties properties,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.settings = properties.getApproverResolution();
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            this.expansionSize = DistributionSummary.builder("workflow.approver.expansion.size")
+                    .description("Number of distinct approvers a step expanded to")
+                    .baseUnit("approvers")
+                    .register(registry);
+            this.duplicatesRemoved = Counter.builder("workflow.approver.expansion.duplicates")
+                    .description("Duplicate approver IDs removed during expansion")
+                    .register(registry);
+            this.overflowTruncated = Counter.builder("workflow.approver.expansion.truncated")
+                    .description("Approvers dropped because a step exceeded the maximum fan-out")
+                    .register(registry);
+        } else {
+            this.expansionSize = null;
+            this.duplicatesRemoved = null;
+            this.overflowTruncated = null;
+        }
+    }
+
+    /**
+     * Expands the approvers of one step into distinct assignees.
+     * Explicit USER approvers take precedence over ROLE and MANAGER expansions, so they are
+     * kept with their own approver type and are never dropped before a resolved approver.
+     *
+     * @param stepDefinition    the step definition
+     * @param approvers         the step's approver rows
+     * @param resolvedApprovers resolved user IDs keyed by approver row ID
+     * @return map of approver user ID to the approver type of the row that produced it
+     * @throws IllegalStateException if the step exceeds the maximum fan-out and the policy is FAIL,
+     *                               or if truncation would leave fewer approvers than the step requires
+     */
+    public Map<String, ApproverType> expand(WorkflowStepDefinition stepDefinition,
+                                            List<WorkflowStepApprover> approvers,
+                                            Map<UUID, List<String>> resolvedApprovers) {
+        List<WorkflowStepApprover> ordered = approvers.stream()
+                .sorted(Comparator.comparing(approver -> approver.getApproverType() == ApproverType.USER ? 0 : 1))
+                .collect(Collectors.toList());
+
+        Map<String, ApproverType> assignees = new LinkedHashMap<>();
+        int resolvedCount = 0;
+        for (WorkflowStepApprover approver : ordered) {
+            for (String approverId : resolvedApprovers.getOrDefault(approver.getId(), List.of())) {
+                resolvedCount++;
+                assignees.putIfAbsent(approverId, approver.getApproverType());
+            }
+        }
+
+        int duplicates = resolvedCount - assignees.size();
+        if (duplicates > 0) {
+            logger.debug("Removed {} duplicate approver(s) for step: {}", duplicates, stepDefinition.getId());
+            if (duplicatesRemoved != null) {
+                duplicatesRemoved.increment(duplicates);
+            }
+        }
+
+        int maxFanOut = settings.getMaxFanOut();
+        if (maxFanOut > 0 && assignees.size() > maxFanOut) {
+            applyOverflowPolicy(stepDefinition, assignees, maxFanOut);
+        }
+
+        if (expansionSize != null) {
+            expansionSize.record(assignees.size());
+        }
+        return assignees;
+    }
+
+    private void applyOverflowPolicy(WorkflowStepDefinition stepDefinition,
+                                     Map<String, ApproverType> assignees, int maxFanOut) {
+        if (settings.getOverflowPolicy() == ApproverOverflowPolicy.FAIL) {
+            throw new IllegalStateException(String.format(
+                    "Step '%s' expands to %d approvers, exceeding the maximum of %d",
+                    stepDefinition.getStepName(), assignees.size(), maxFanOut));
+        }
+
+        if (stepDefinition.getApprovalType() == ApprovalType.N_OF_M
+                && stepDefinition.getMinApprovals() != null
+                && stepDefinition.getMinApprovals() > maxFanOut) {
+            throw new IllegalStateException(String.format(
+                    "Step '%s' requires %d approvals but the maximum fan-out is %d",
+                    stepDefinition.getStepName(), stepDefinition.getMinApprovals(), maxFanOut));
+        }
+
+        int dropped = assignees.size() - maxFanOut;
+        Iterator<String> iterator = assignees.keySet().iterator();
+        for (int kept = 0; iterator.hasNext(); ) {
+            iterator.next();
+            if (kept < maxFanOut) {
+                kept++;
+            } else {
+                iterator.remove();
+            }
+        }
+
+        logger.warn("Step '{}' exceeded the maximum fan-out of {}; dropped {} approver(s)",
+                stepDefinition.getStepName(), maxFanOut, dropped);
+        if (overflowTruncated != null) {
+            overflowTruncated.increment(dropped);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.fractalhive.workflowcore.taskmanagement.service;
+
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.taskmanagement.resolver.ApproverResolver;
+import com.fractalhive.workflowcore.taskmanagement.resolver.AsyncApproverResolver;
+import com.fractalhive.workflowcore.taskmanagement.resolver.BlockingApproverResolverAdapter;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepApprover;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resolves step approver rows (USER, ROLE, MANAGER) to concrete user IDs.
+ * All ROLE and MANAGER lookups passed in a single call are started together and awaited
+ * with one bounded timeout, so an order group with several parallel steps pays for the
+ * slowest lookup rather than the sum of all lookups.
+ * <p>
+ * A blocking {@link ApproverResolver} is run on a private pool with a bounded queue. When all threads
+ * are busy and the queue is full, further lookups fail at once rather than waiting behind stuck ones.
+ * Lookups still running at the timeout are cancelled, which interrupts their threads. The pool is deliberately
+ * not exposed as an {@code Executor} bean so that it does not replace the host application's
+ * default task executor.
+ */
+@Service
+public class ApproverResolutionService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApproverResolutionService.class);
+
+    private final AsyncApproverResolver asyncApproverResolver;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+
+    public ApproverResolutionService(
+            @Autowired(required = false) AsyncApproverResolver asyncApproverResolver,
+            @Autowired(required = false) ApproverResolver approverResolver,
+            WorkflowCoreProperties properties) {
+        if (asyncApproverResolver != null) {
+            this.asyncApproverResolver = asyncApproverResolver;
+            this.executor = null;
+        } else if (approverResolver != null) {
+            this.executor = createExecutor(properties.getApproverResolution());
+            this.asyncApproverResolver = new BlockingApproverResolverAdapter(approverResolver,
+                    executor.getThreadPoolExecutor());
+        } else {
+            this.asyncApproverResolver = null;
+            this.executor = null;
+        }
+        this.timeout = properties.getApproverResolution().getTimeout();
+    }
+
+    /**
+     * Resolves all given approver rows concurrently.
+     *
+     * @param approvers the approver rows to resolve
+     * @return map of approver row ID to resolved user IDs, in the iteration order of the input
+     * @throws IllegalStateException if resolution fails or does not complete within the configured timeout
+     */
+    public Map<UUID, List<String>> resolveAll(Collection<WorkflowStepApprover> approvers) {
+        Map<UUID, CompletableFuture<List<String>>> futures = new LinkedHashMap<>();
+        for (WorkflowStepApprover approver : approvers) {
+            futures.put(approver.getId(), resolveAsync(approver));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
+        try {
+            all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            throw new IllegalStateException(String.format(
+                    "Approver resolution timed out after %d ms for %d approver(s)", timeout.toMillis(), futures.size()));
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Approver resolution failed: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while resolving approvers", e);
+        }
+
+        Map<UUID, List<String>> resolved = new LinkedHashMap<>();
+        futures.forEach((approverId, future) -> {
+            List<String> userIds = future.join();
+            resolved.put(approverId, userIds != null ? userIds : Collections.emptyList());
+        });
+        return resolved;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(WorkflowCoreProperties.ApproverResolution settings) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, settings.getPoolSize()));
+        executor.setMaxPoolSize(Math.max(1, settings.getPoolSize()));
+        executor.setQueueCapacity(Math.max(0, settings.getQueueCapacity()));
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("approver-resolver-");
+        executor.initialize();
+        return executor;
+    }
+
+    private CompletableFuture<List<String>> resolveAsync(WorkflowStepApprover approver) {
+        switch (approver.getApproverType()) {
+            case USER:
+                return CompletableFuture.completedFuture(Collections.singletonList(approver.getApproverValue()));
+            case ROLE:
+                if (asyncApproverResolver != null) {
+                    return asyncApproverResolver.resolveRoleToUserIdsAsync(approver.getApproverValue());
+                }
+                logger.warn("ApproverResolver not available. Cannot resolve ROLE approver: {}",
+                        approver.getApproverValue());
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            case MANAGER:
+                if (asyncApproverResolver != null) {
+                    return asyncApproverResolver.resolveManagerChainAsync(approver.getApproverValue());
+                }
+                logger.warn("ApproverResolver not available. Cannot resolve MANAGER approver: {}",
+                        approver.getApproverValue());
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            default:
+                return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.fractalhive.workflowcore.taskmanagement.service;
 import com.fractalhive.workflowcore.approval.dto.ApprovalTaskCreateRequest;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
 import com.fractalhive.workflowcore.taskmanagement.dto.ApprovalCommentResponse;
+import com.fractalhive.workflowcore.taskmanagement.dto.TaskChangesResponse;
+import com.fractalhive.workflowcore.taskmanagement.dto.TaskCountsResponse;
 import com.fractalhive.workflowcore.taskmanagement.dto.TaskReassignRequest;
 import com.fractalhive.workflowcore.taskmanagement.dto.TaskResponse;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -34,6 +37,16 @@ public interface TaskManagementService {
      */
     List<UUID> createTasksForStep(UUID stepInstanceId, String createdBy);
 
+    /**
+     * Creates tasks for several step instances at once, e.g. all parallel steps of one order group.
+     * ROLE and MANAGER approvers of all steps are resolved concurrently in a single round.
+     *
+     * @param stepInstanceIds the step instance IDs
+     * @param createdBy       the user ID creating the tasks
+     * @return map of step instance ID to created task IDs, in the order of the input
+     */
+    Map<UUID, List<UUID>> createTasksForSteps(List<UUID> stepInstanceIds, String createdBy);
+
     /**
      * Gets full task details including comments and decisions.
      *
@@ -42,6 +55,15 @@ public interface TaskManagementService {
      */
     TaskResponse getTask(UUID taskId);
 
+    /**
+     * Computes the entity tag of the response {@link #getTask(UUID)} returns, with one narrow query over the
+     * task, its workflow instance and its work item.
+     *
+     * @param taskId the task ID
+     * @return the quoted entity tag
+     */
+    String getTaskETag(UUID taskId);
+
     /**
      * Gets tasks for a specific approver filtered by status.
      *
@@ -51,6 +73,27 @@ public interface TaskManagementService {
      */
     List<TaskResponse> getTasksByApprover(String approverId, TaskStatus status);
 
+    /**
+     * Counts the tasks of an approver per status with one aggregate query, without assembling any task.
+     * Served from a local cache when {@code workflow-core.task-counts.cache-enabled} is set.
+     *
+     * @param approverId the approver ID
+     * @return the number of tasks in each status
+     */
+    TaskCountsResponse getTaskCounts(String approverId);
+
+    /**
+     * Gets the tasks of an approver created or changed since a change token, oldest change first.
+     * Tasks delegated or reassigned away from the approver are reported as removed. Changes of the
+     * last few seconds are held back until concurrent transactions have committed.
+     *
+     * @param approverId the approver ID
+     * @param since      token returned by the previous call, or null to start from the beginning
+     * @param size       maximum number of changes to return
+     * @return the changes and the token to continue from
+     */
+    TaskChangesResponse getTaskChanges(String approverId, String since, int size);
+
     /**
      * Gets all tasks for a specific step instance.
      *
@@ -1,18 +1,26 @@
 package com.fractalhive.workflowcore.taskmanagement.service;
 
 import com.fractalhive.workflowcore.approval.dto.ApprovalTaskCreateRequest;
+import com.fractalhive.workflowcore.approval.dto.ApprovalTaskVersion;
 import com.fractalhive.workflowcore.approval.entity.ApprovalComment;
 import com.fractalhive.workflowcore.approval.entity.ApprovalDecision;
 import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
+import com.fractalhive.workflowcore.approval.enums.ApproverType;
 import com.fractalhive.workflowcore.approval.enums.TaskStatus;
 import com.fractalhive.workflowcore.approval.repository.ApprovalCommentRepository;
 import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionRepository;
 import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.approval.service.ApprovalHistoryReader;
+import com.fractalhive.workflowcore.approval.service.ApprovalTaskCountCache;
+import com.fractalhive.workflowcore.common.datasource.ReadYourWrites;
+import com.fractalhive.workflowcore.common.persistence.PartitionPruning;
+import com.fractalhive.workflowcore.common.web.EntityTags;
 import com.fractalhive.workflowcore.taskmanagement.dto.ApprovalCommentResponse;
 import com.fractalhive.workflowcore.taskmanagement.dto.ApprovalDecisionResponse;
+import com.fractalhive.workflowcore.taskmanagement.dto.TaskChangesResponse;
+import com.fractalhive.workflowcore.taskmanagement.dto.TaskCountsResponse;
 import com.fractalhive.workflowcore.taskmanagement.dto.TaskReassignRequest;
 import com.fractalhive.workflowcore.taskmanagement.dto.TaskResponse;
-import com.fractalhive.workflowcore.taskmanagement.resolver.ApproverResolver;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowDefinition;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepApprover;
@@ -23,21 +31,28 @@ import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceReposito
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepApproverRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepDefinitionRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import com.fractalhive.workflowcore.workitem.entity.WorkItem;
 import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +64,11 @@ public class TaskManagementServiceImpl implements TaskManagementService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskManagementServiceImpl.class);
 
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
     private final ApprovalTaskRepository approvalTaskRepository;
     private final ApprovalCommentRepository approvalCommentRepository;
     private final ApprovalDecisionRepository approvalDecisionRepository;
@@ -58,7 +78,11 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     private final WorkflowInstanceRepository workflowInstanceRepository;
     private final WorkflowDefinitionRepository workflowDefinitionRepository;
     private final WorkItemRepository workItemRepository;
-    private final ApproverResolver approverResolver;
+    private final ApproverResolutionService approverResolutionService;
+    private final ApproverExpansionService approverExpansionService;
+    private final WorkflowProgressTracker progressTracker;
+    private final ApprovalHistoryReader approvalHistoryReader;
+    private final ApprovalTaskCountCache taskCountCache;
 
     public TaskManagementServiceImpl(
             ApprovalTaskRepository approvalTaskRepository,
@@ -70,7 +94,11 @@ public class TaskManagementServiceImpl implements TaskManagementService {
             WorkflowInstanceRepository workflowInstanceRepository,
             WorkflowDefinitionRepository workflowDefinitionRepository,
             WorkItemRepository workItemRepository,
-            @Autowired(required = false) ApproverResolver approverResolver) {
+            ApproverResolutionService approverResolutionService,
+            ApproverExpansionService approverExpansionService,
+            WorkflowProgressTracker progressTracker,
+            ApprovalHistoryReader approvalHistoryReader,
+            ApprovalTaskCountCache taskCountCache) {
         this.approvalTaskRepository = approvalTaskRepository;
         this.approvalCommentRepository = approvalCommentRepository;
         this.approvalDecisionRepository = approvalDecisionRepository;
@@ -80,7 +108,11 @@ public class TaskManagementServiceImpl implements TaskManagementService {
         this.workflowInstanceRepository = workflowInstanceRepository;
         this.workflowDefinitionRepository = workflowDefinitionRepository;
         this.workItemRepository = workItemRepository;
-        this.approverResolver = approverResolver;
+        this.approverResolutionService = approverResolutionService;
+        this.approverExpansionService = approverExpansionService;
+        this.progressTracker = progressTracker;
+        this.approvalHistoryReader = approvalHistoryReader;
+        this.taskCountCache = taskCountCache;
     }
 
     @Override
@@ -98,57 +130,129 @@ public class TaskManagementServiceImpl implements TaskManagementService {
         task.setCreatedBy(createdBy);
         
         ApprovalTask saved = approvalTaskRepository.save(task);
+        progressTracker.markStepDirty(saved.getStepInstanceId());
+        taskCountCache.evict(saved.getApproverId());
         return saved.getId();
     }
 
     @Override
     @Transactional
     public List<UUID> createTasksForStep(UUID stepInstanceId, String createdBy) {
-        WorkflowStepInstance stepInstance = workflowStepInstanceRepository.findById(stepInstanceId)
-                .orElseThrow(() -> new IllegalArgumentException("Step instance not found: " + stepInstanceId));
+        return createTasksForSteps(List.of(stepInstanceId), createdBy).get(stepInstanceId);
+    }
 
-        WorkflowStepDefinition stepDefinition = workflowStepDefinitionRepository.findById(stepInstance.getStepId())
-                .orElseThrow(() -> new IllegalArgumentException("Step definition not found: " + stepInstance.getStepId()));
+    @Override
+    @Transactional
+    public Map<UUID, List<UUID>> createTasksForSteps(List<UUID> stepInstanceIds, String createdBy) {
+        Map<UUID, WorkflowStepInstance> stepInstances = workflowStepInstanceRepository.findAllById(stepInstanceIds)
+                .stream()
+                .collect(Collectors.toMap(WorkflowStepInstance::getId, Function.identity()));
+        for (UUID stepInstanceId : stepInstanceIds) {
+            if (!stepInstances.containsKey(stepInstanceId)) {
+                throw new IllegalArgumentException("Step instance not found: " + stepInstanceId);
+            }
+        }
 
-        List<WorkflowStepApprover> approvers = workflowStepApproverRepository.findByStepId(stepDefinition.getId());
-        if (approvers.isEmpty()) {
-            logger.warn("No approvers found for step: {}", stepDefinition.getId());
-            return Collections.emptyList();
+        List<UUID> stepIds = stepInstances.values().stream()
+                .map(WorkflowStepInstance::getStepId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<UUID, WorkflowStepDefinition> stepDefinitions = workflowStepDefinitionRepository.findAllById(stepIds)
+                .stream()
+                .collect(Collectors.toMap(WorkflowStepDefinition::getId, Function.identity()));
+        for (UUID stepId : stepIds) {
+            if (!stepDefinitions.containsKey(stepId)) {
+                throw new IllegalArgumentException("Step definition not found: " + stepId);
+            }
         }
 
-        List<UUID> createdTaskIds = new ArrayList<>();
+        Map<UUID, List<WorkflowStepApprover>> approversByStep = workflowStepApproverRepository.findByStepIdIn(stepIds)
+                .stream()
+                .collect(Collectors.groupingBy(WorkflowStepApprover::getStepId));
+
+        // Resolve every ROLE/MANAGER approver across all steps in one concurrent round
+        List<WorkflowStepApprover> allApprovers = approversByStep.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        Map<UUID, List<String>> resolvedApprovers = approverResolutionService.resolveAll(allApprovers);
+
         Timestamp now = Timestamp.from(Instant.now());
-        Timestamp dueAt = calculateDueAt(stepDefinition.getSlaHours());
+        Map<UUID, List<ApprovalTask>> tasksByStepInstance = new LinkedHashMap<>();
+        List<ApprovalTask> tasksToSave = new ArrayList<>();
+
+        for (UUID stepInstanceId : stepInstanceIds) {
+            WorkflowStepDefinition stepDefinition = stepDefinitions.get(stepInstances.get(stepInstanceId).getStepId());
+            List<WorkflowStepApprover> approvers = approversByStep.getOrDefault(stepDefinition.getId(), Collections.emptyList());
+            List<ApprovalTask> stepTasks = new ArrayList<>();
+            tasksByStepInstance.put(stepInstanceId, stepTasks);
+
+            if (approvers.isEmpty()) {
+                logger.warn("No approvers found for step: {}", stepDefinition.getId());
+                continue;
+            }
 
-        for (WorkflowStepApprover approver : approvers) {
-            List<String> approverIds = resolveApproverIds(approver);
-            
-            for (String approverId : approverIds) {
+            // One task per distinct approver, within the configured fan-out limit
+            Map<String, ApproverType> assignees = approverExpansionService.expand(
+                    stepDefinition, approvers, resolvedApprovers);
+
+            Timestamp dueAt = calculateDueAt(stepDefinition.getSlaHours());
+            assignees.forEach((approverId, approverType) -> {
                 ApprovalTask task = new ApprovalTask();
                 task.setStepInstanceId(stepInstanceId);
                 task.setApproverId(approverId);
-                task.setApproverType(approver.getApproverType());
+                task.setApproverType(approverType);
                 task.setStatus(TaskStatus.PENDING);
                 task.setDueAt(dueAt);
                 task.setCreatedAt(now);
                 task.setCreatedBy(createdBy);
-                
-                ApprovalTask saved = approvalTaskRepository.save(task);
-                createdTaskIds.add(saved.getId());
-            }
+                stepTasks.add(task);
+                tasksToSave.add(task);
+            });
         }
 
-        logger.info("Created {} tasks for step instance: {}", createdTaskIds.size(), stepInstanceId);
+        approvalTaskRepository.saveAll(tasksToSave);
+        taskCountCache.evict(tasksToSave.stream().map(ApprovalTask::getApproverId).distinct().toArray(String[]::new));
+        stepInstances.values().stream()
+                .map(WorkflowStepInstance::getWorkflowInstanceId)
+                .distinct()
+                .forEach(progressTracker::markDirty);
+
+        Map<UUID, List<UUID>> createdTaskIds = new LinkedHashMap<>();
+        tasksByStepInstance.forEach((stepInstanceId, tasks) -> {
+            List<UUID> taskIds = tasks.stream().map(ApprovalTask::getId).collect(Collectors.toList());
+            createdTaskIds.put(stepInstanceId, taskIds);
+            logger.info("Created {} tasks for step instance: {}", taskIds.size(), stepInstanceId);
+        });
         return createdTaskIds;
     }
 
     @Override
     @Transactional(readOnly = true)
     public TaskResponse getTask(UUID taskId) {
-        ApprovalTask task = approvalTaskRepository.findById(taskId)
+        Optional<ApprovalTask> task = approvalTaskRepository.findById(taskId);
+        if (task.isPresent()) {
+            return buildTaskResponse(task.get());
+        }
+
+        // Tasks of archived workflow instances live in the history tables
+        ApprovalTask archived = approvalHistoryReader.findTask(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
+        return buildTaskResponse(archived,
+                approvalHistoryReader.findComments(taskId),
+                approvalHistoryReader.findDecision(taskId));
+    }
 
-        return buildTaskResponse(task);
+    @Override
+    @Transactional(readOnly = true)
+    public String getTaskETag(UUID taskId) {
+        Optional<ApprovalTaskVersion> active = approvalTaskRepository.findVersionById(taskId);
+        boolean archived = active.isEmpty();
+        ApprovalTaskVersion version = active
+                .or(() -> approvalHistoryReader.findTaskVersion(taskId))
+                .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
+        // Step and definition names are fixed once a definition has instances, so they need no version
+        return EntityTags.of(taskId, archived, version.getCreatedAt(), version.getUpdatedAt(),
+                version.getWorkflowStatus(), version.getWorkItemStatus(), version.getWorkItemVersion());
     }
 
     @Override
@@ -166,6 +270,75 @@ public class TaskManagementServiceImpl implements TaskManagementService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public TaskCountsResponse getTaskCounts(String approverId) {
+        // Not transactional: a cache hit needs no connection, and the aggregate query runs in the repository's own
+        Map<TaskStatus, Long> counts = taskCountCache.get(approverId, () -> countByStatus(approverId));
+        return TaskCountsResponse.builder()
+                .approverId(approverId)
+                .counts(counts)
+                .total(counts.values().stream().mapToLong(Long::longValue).sum())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getTaskChanges(String approverId, String since, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        int pageSize = Math.min(size, MAX_CHANGES_PAGE_SIZE);
+
+        ChangePosition after = since != null && !since.isBlank()
+                ? ChangePosition.decode(since)
+                : new ChangePosition(0L, MIN_UUID);
+
+        // The connection is fetched on the first statement, so the scope still keeps this transaction off a
+        // replica: the token must never move past a change the primary has committed
+        List<ApprovalTask> rows;
+        long upTo;
+        ReadYourWrites.Scope scope = ReadYourWrites.open();
+        try {
+            // Transactions below the oldest running one are all finished, so nothing can still commit behind it
+            upTo = approvalTaskRepository.findOldestRunningTransactionId();
+            // Fetch one extra row to know whether more changes are waiting
+            rows = approvalTaskRepository.findChangesForApprover(approverId,
+                    after.changeXid(), after.taskId(), upTo, PageRequest.of(0, pageSize + 1));
+        } finally {
+            scope.close();
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<ApprovalTask> changes = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<TaskResponse> tasks = new ArrayList<>();
+        List<UUID> removedTaskIds = new ArrayList<>();
+        for (ApprovalTask task : changes) {
+            if (approverId.equals(task.getApproverId())) {
+                tasks.add(buildTaskResponse(task));
+            } else {
+                removedTaskIds.add(task.getId());
+            }
+        }
+
+        // Once caught up, continue from the upper bound so the next call does not rescan settled rows
+        ChangePosition next;
+        if (hasMore) {
+            ApprovalTask last = changes.get(changes.size() - 1);
+            next = new ChangePosition(last.getChangeXid(), last.getId());
+        } else if (upTo - 1 > after.changeXid()) {
+            next = new ChangePosition(upTo - 1, MAX_UUID);
+        } else {
+            next = after;
+        }
+
+        return TaskChangesResponse.builder()
+                .tasks(tasks)
+                .removedTaskIds(removedTaskIds)
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByStepInstance(UUID stepInstanceId) {
@@ -178,11 +351,13 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     @Override
     @Transactional
     public ApprovalCommentResponse addComment(UUID taskId, String comment, String commentedBy) {
-        // Verify task exists
-        approvalTaskRepository.findById(taskId)
+        ApprovalTask task = approvalTaskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
 
         Timestamp now = Timestamp.from(Instant.now());
+        // Comments are part of the task as the approver sees it, so they count as a change of the task
+        task.setUpdatedAt(now);
+        task.setUpdatedBy(commentedBy);
 
         ApprovalComment approvalComment = new ApprovalComment();
         approvalComment.setApprovalTaskId(taskId);
@@ -209,7 +384,7 @@ public class TaskManagementServiceImpl implements TaskManagementService {
             throw new IllegalStateException("Cannot reassign task in status: " + task.getStatus());
         }
 
-        task.setApproverId(request.getNewApproverId());
+        task.reassignTo(request.getNewApproverId());
         if (task.getStatus() == TaskStatus.DELEGATED) {
             task.setStatus(TaskStatus.PENDING);
         }
@@ -227,16 +402,35 @@ public class TaskManagementServiceImpl implements TaskManagementService {
         }
 
         approvalTaskRepository.save(task);
+        progressTracker.markStepDirty(task.getStepInstanceId());
+        taskCountCache.evict(task.getApproverId(), task.getPreviousApproverId());
         return getTask(taskId);
     }
 
     // ===== Helper methods =====
 
+    private Map<TaskStatus, Long> countByStatus(String approverId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        approvalTaskRepository.countByApproverIdGroupByStatus(approverId)
+                .forEach(count -> counts.put(count.getStatus(), count.getCount()));
+        return counts;
+    }
+
     private TaskResponse buildTaskResponse(ApprovalTask task) {
+        // Comments and decisions are created after their task, which lets partitioned tables be pruned
+        Timestamp createdNotBefore = PartitionPruning.notBefore(task.getCreatedAt());
         List<ApprovalComment> comments = approvalCommentRepository
-                .findByApprovalTaskIdOrderByCommentedAtAsc(task.getId());
+                .findByApprovalTaskIdAndCreatedAtGreaterThanEqualOrderByCommentedAtAsc(task.getId(), createdNotBefore);
         Optional<ApprovalDecision> decision = approvalDecisionRepository
-                .findByApprovalTaskId(task.getId());
+                .findByApprovalTaskIdAndCreatedAtGreaterThanEqual(task.getId(), createdNotBefore);
+        return buildTaskResponse(task, comments, decision);
+    }
+
+    private TaskResponse buildTaskResponse(ApprovalTask task, List<ApprovalComment> comments,
+                                           Optional<ApprovalDecision> decision) {
         List<ApprovalDecision> decisions = decision.map(List::of).orElse(Collections.emptyList());
 
         WorkflowStepInstance stepInstance = task.getStepInstance();
@@ -323,35 +517,41 @@ public class TaskManagementServiceImpl implements TaskManagementService {
                 .build();
     }
 
-    private List<String> resolveApproverIds(WorkflowStepApprover approver) {
-        switch (approver.getApproverType()) {
-            case USER:
-                return Collections.singletonList(approver.getApproverValue());
-            case ROLE:
-                if (approverResolver != null) {
-                    return approverResolver.resolveRoleToUserIds(approver.getApproverValue());
-                } else {
-                    logger.warn("ApproverResolver not available. Cannot resolve ROLE approver: {}",
-                            approver.getApproverValue());
-                    return Collections.emptyList();
-                }
-            case MANAGER:
-                if (approverResolver != null) {
-                    return approverResolver.resolveManagerChain(approver.getApproverValue());
-                } else {
-                    logger.warn("ApproverResolver not available. Cannot resolve MANAGER approver: {}",
-                            approver.getApproverValue());
-                    return Collections.emptyList();
-                }
-            default:
-                return Collections.emptyList();
-        }
-    }
-
     private Timestamp calculateDueAt(Integer slaHours) {
         if (slaHours == null || slaHours <= 0) {
             return null;
         }
         return Timestamp.from(Instant.now().plusSeconds(slaHours * 3600L));
     }
+
+    /**
+     * Position in an approver's change feed: the (changeXid, id) of the last change returned.
+     * Encoded as an opaque, URL-safe token.
+     */
+    private record ChangePosition(long changeXid, UUID taskId) {
+
+        static ChangePosition decode(String token) {
+            String decoded;
+            try {
+                decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid change token: " + token);
+            }
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid change token: " + token);
+            }
+            try {
+                return new ChangePosition(Long.parseLong(decoded.substring(0, separator)),
+                        UUID.fromString(decoded.substring(separator + 1)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid change token: " + token);
+            }
+        }
+
+        String encode() {
+            String raw = changeXid + "|" + taskId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package com.fractalhive.workflowcore.workflow.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartBatchRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartResult;
+import com.fractalhive.workflowcore.workflow.service.WorkflowOrchestratorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * REST controller for starting workflow instances.
+ */
+@RestController
+@RequestMapping("/api/workflows")
+@Tag(name = "Workflows", description = "APIs for starting workflow instances for work items")
+public class WorkflowController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowController.class);
+
+    private static final int MAX_BATCH_SIZE = 50_000;
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final WorkflowOrchestratorService orchestratorService;
+    private final ObjectMapper objectMapper;
+    private final WorkflowCoreProperties.Batch batchSettings;
+
+    public WorkflowController(WorkflowOrchestratorService orchestratorService, ObjectMapper objectMapper,
+                              WorkflowCoreProperties properties) {
+        this.orchestratorService = orchestratorService;
+        this.objectMapper = objectMapper;
+        this.batchSettings = properties.getBatch();
+    }
+
+    /**
+     * Starts workflows for many work items.
+     * Results are streamed as newline-delimited JSON, one line per item, as each chunk commits. The request
+     * runs with its own timeout, {@code workflow-core.batch.request-timeout}, instead of the container's
+     * default async request timeout, which large batches would outlive.
+     *
+     * @param request  the (work item, workflow definition) pairs to start
+     * @param userId   the user starting the workflows
+     * @param response the response the results are written to
+     * @return the asynchronous batch
+     */
+    @PostMapping("/start-batch")
+    @Operation(
+            summary = "Start workflows in bulk",
+            description = "Starts workflows for up to " + MAX_BATCH_SIZE + " (workItemId, workflowDefinitionId) pairs. "
+                    + "Items are processed in chunked transactions; each result line is written once its chunk commits. "
+                    + "Work items must be SUBMITTED. A failed item does not fail the rest of the batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item results, streamed as application/x-ndjson",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = WorkflowStartResult.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    public WebAsyncTask<Void> startBatch(
+            @Parameter(description = "Work items and the workflow definitions to start for them")
+            @RequestBody WorkflowStartBatchRequest request,
+            @Parameter(description = "User ID starting the workflows", required = true, example = "importer")
+            @RequestParam String userId,
+            HttpServletResponse response) {
+        List<WorkflowStartRequest> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one workflow start request is required");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "Batch size " + items.size() + " exceeds the maximum of " + MAX_BATCH_SIZE);
+        }
+
+        response.setContentType(NDJSON);
+        Callable<Void> batch = () -> {
+            OutputStream outputStream = response.getOutputStream();
+            AtomicInteger written = new AtomicInteger();
+            try {
+                orchestratorService.startWorkflows(items, userId, results -> {
+                    writeLines(outputStream, results);
+                    written.addAndGet(results.size());
+                });
+            } catch (RuntimeException e) {
+                // Chunks whose results were written have committed, and so may the chunk being written;
+                // later chunks were not started
+                logger.warn("Batch start of {} workflows stopped after {} results were written: {}",
+                        items.size(), written.get(), e.getMessage());
+                throw e;
+            }
+            return null;
+        };
+        return new WebAsyncTask<>(batchSettings.getRequestTimeout().toMillis(), batch);
+    }
+
+    private void writeLines(OutputStream outputStream, List<WorkflowStartResult> results) {
+        try {
+            for (WorkflowStartResult result : results) {
+                outputStream.write(objectMapper.writeValueAsBytes(result));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
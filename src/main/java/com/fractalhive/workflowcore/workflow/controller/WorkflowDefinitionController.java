@@ -15,12 +15,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fractalhive.workflowcore.workflow.dto.ApproverRequest;
 import com.fractalhive.workflowcore.workflow.dto.ApproversCreateResponse;
 import com.fractalhive.workflowcore.workflow.dto.CreateResponse;
 import com.fractalhive.workflowcore.workflow.dto.StepDefinitionRequest;
 import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionCreateRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionPageResponse;
 import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionResponse;
 import com.fractalhive.workflowcore.workflow.service.WorkflowDefinitionService;
 
@@ -54,22 +56,54 @@ public class WorkflowDefinitionController {
     /**
      * Lists all workflow definitions.
      *
+     * @param includeSteps whether to include steps and approvers
      * @return list of workflow definitions
      */
     @GetMapping
     @Operation(
             summary = "List all workflow definitions",
-            description = "Retrieves all workflow definitions in the system"
+            description = "Retrieves all workflow definitions in the system, ordered by name and version (newest first). "
+                    + "Use includeSteps=false for a lightweight header listing"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved workflows",
                     content = @Content(schema = @Schema(implementation = WorkflowDefinitionResponse.class)))
     })
-    public ResponseEntity<List<WorkflowDefinitionResponse>> listWorkflows() {
-        List<WorkflowDefinitionResponse> workflows = workflowDefinitionService.listWorkflows();
+    public ResponseEntity<List<WorkflowDefinitionResponse>> listWorkflows(
+            @Parameter(description = "Include steps and approvers", example = "true")
+            @RequestParam(defaultValue = "true") boolean includeSteps) {
+        List<WorkflowDefinitionResponse> workflows = workflowDefinitionService.listWorkflows(includeSteps);
         return ResponseEntity.ok(workflows);
     }
 
+    /**
+     * Lists one page of workflow definitions.
+     *
+     * @param page         zero-based page index
+     * @param size         page size
+     * @param includeSteps whether to include steps and approvers
+     * @return the page of workflow definitions
+     */
+    @GetMapping("/page")
+    @Operation(
+            summary = "List workflow definitions (paginated)",
+            description = "Retrieves one page of workflow definitions, ordered by name and version (newest first). Page size is capped at 200"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(schema = @Schema(implementation = WorkflowDefinitionPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size")
+    })
+    public ResponseEntity<WorkflowDefinitionPageResponse> listWorkflowsPage(
+            @Parameter(description = "Zero-based page index", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Include steps and approvers", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeSteps) {
+        return ResponseEntity.ok(workflowDefinitionService.listWorkflowsPage(page, size, includeSteps));
+    }
+
     /**
      * Creates a new workflow definition.
      *
@@ -102,25 +136,34 @@ public class WorkflowDefinitionController {
 
     /**
      * Gets a workflow definition by ID.
+     * Answers {@code If-None-Match} with 304 after a version lookup, without assembling the definition.
      *
      * @param workflowId the workflow ID
-     * @return the workflow definition
+     * @param webRequest the current request, for conditional request handling
+     * @return the workflow definition, or 304 if the client's copy is current
      */
     @GetMapping("/{workflowId}")
     @Operation(
             summary = "Get workflow definition by ID",
-            description = "Retrieves detailed information about a specific workflow definition including steps and approvers"
+            description = "Retrieves detailed information about a specific workflow definition including steps and approvers. "
+                    + "Returns an ETag; send it back as If-None-Match to get 304 Not Modified while the definition is unchanged"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Workflow found",
                     content = @Content(schema = @Schema(implementation = WorkflowDefinitionResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Workflow unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Workflow not found")
     })
     public ResponseEntity<WorkflowDefinitionResponse> getWorkflow(
             @Parameter(description = "The workflow ID", required = true)
-            @PathVariable UUID workflowId) {
+            @PathVariable UUID workflowId,
+            WebRequest webRequest) {
+        String eTag = workflowDefinitionService.getWorkflowETag(workflowId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         WorkflowDefinitionResponse workflow = workflowDefinitionService.getWorkflow(workflowId);
-        return ResponseEntity.ok(workflow);
+        return ResponseEntity.ok().eTag(eTag).body(workflow);
     }
 
     /**
@@ -0,0 +1,41 @@
+package com.fractalhive.workflowcore.workflow.dto;
+
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Internal runtime view of a workflow definition: its header and step definitions ordered by step order.
+ * Loaded once per workflow start instead of rendering the admin {@link WorkflowDefinitionResponse}.
+ */
+@Getter
+public class WorkflowDefinitionGraph {
+
+    private final WorkflowDefinitionHeader header;
+    private final List<WorkflowStepDefinition> steps;
+    private final Map<UUID, WorkflowStepDefinition> stepsById;
+
+    public WorkflowDefinitionGraph(WorkflowDefinitionHeader header, List<WorkflowStepDefinition> steps) {
+        this.header = header;
+        this.steps = List.copyOf(steps);
+        this.stepsById = steps.stream()
+                .collect(Collectors.toMap(WorkflowStepDefinition::getId, Function.identity()));
+    }
+
+    /**
+     * Gets the step definitions with the given step order.
+     *
+     * @param stepOrder the step order
+     * @return the step definitions of that order (parallel steps), possibly empty
+     */
+    public List<WorkflowStepDefinition> getStepsWithOrder(int stepOrder) {
+        return steps.stream()
+                .filter(step -> step.getStepOrder() == stepOrder)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,25 @@
+package com.fractalhive.workflowcore.workflow.dto;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Lean projection of a workflow definition row, without steps or approvers.
+ * Used internally where only identity and version are needed, and to answer conditional requests.
+ */
+public interface WorkflowDefinitionHeader {
+
+    UUID getId();
+
+    String getName();
+
+    Integer getVersion();
+
+    Boolean getIsActive();
+
+    Boolean getHasInstances();
+
+    Timestamp getCreatedAt();
+
+    Timestamp getUpdatedAt();
+}
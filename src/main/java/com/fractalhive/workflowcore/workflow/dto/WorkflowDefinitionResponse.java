@@ -21,6 +21,7 @@ public class WorkflowDefinitionResponse {
     private String name;
     private Integer version;
     private Boolean isActive;
+    private Boolean hasInstances;
     private List<StepDefinitionResponse> steps;
 
     @Data
@@ -0,0 +1,15 @@
+package com.fractalhive.workflowcore.workflow.dto;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Lean projection of a workflow progress snapshot row, without the snapshot itself.
+ * Used to answer conditional requests without reading or deserializing the snapshot.
+ */
+public interface WorkflowProgressVersion {
+
+    UUID getWorkflowInstanceId();
+
+    Timestamp getUpdatedAt();
+}
@@ -0,0 +1,23 @@
+package com.fractalhive.workflowcore.workflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for starting workflows for many work items in one request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowStartBatchRequest {
+
+    /**
+     * The (work item, workflow definition) pairs to start.
+     */
+    private List<WorkflowStartRequest> items;
+}
@@ -0,0 +1,34 @@
+package com.fractalhive.workflowcore.workflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of starting a workflow for one item of a batch.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowStartResult {
+
+    private UUID workItemId;
+
+    private UUID workflowDefinitionId;
+
+    /**
+     * The created workflow instance ID, or null if the item was not started.
+     */
+    private UUID workflowInstanceId;
+
+    private boolean started;
+
+    /**
+     * Why the item was not started, or null if it was started.
+     */
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.fractalhive.workflowcore.workflow.entity;
+
+/**
+ * Second-level cache region names for workflow definition data.
+ * Regions are only used when {@code workflow-core.cache.enabled=true}; otherwise the
+ * cache annotations on the definition entities and repositories are ignored.
+ */
+public final class DefinitionCacheRegions {
+
+    public static final String WORKFLOW_DEFINITION = "workflow-core.workflow-definition";
+    public static final String STEP_DEFINITION = "workflow-core.workflow-step-definition";
+    public static final String STEP_APPROVER = "workflow-core.workflow-step-approver";
+    public static final String DEFINITION_QUERIES = "workflow-core.definition-queries";
+
+    /**
+     * Entity regions, in the order they are reported in metrics.
+     */
+    public static final String[] ENTITY_REGIONS = {WORKFLOW_DEFINITION, STEP_DEFINITION, STEP_APPROVER};
+
+    private DefinitionCacheRegions() {
+    }
+}
@@ -4,6 +4,8 @@ import com.fractalhive.workflowcore.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -12,6 +14,8 @@ import java.util.List;
  * Workflow definitions are versioned and immutable once created.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DefinitionCacheRegions.WORKFLOW_DEFINITION)
 @Table(name = "workflow_definition",
        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "version"}))
 @Getter
@@ -27,6 +31,13 @@ public class WorkflowDefinition extends BaseEntity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    /**
+     * Set once the first workflow instance is started from this definition.
+     * Lets admin edits decide "new version vs. in-place update" without querying instances.
+     */
+    @Column(name = "has_instances", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private Boolean hasInstances = false;
+
     /**
      * Optional read-only association to workflow steps.
      * Not used for persistence, only for convenience queries.
@@ -16,7 +16,11 @@ import java.util.UUID;
  * Workflow instances are pinned to a specific workflow definition version.
  */
 @Entity
-@Table(name = "workflow_instance")
+@Table(name = "workflow_instance", indexes = {
+        @Index(name = "idx_workflow_instance_workflow_id", columnList = "workflow_id"),
+        @Index(name = "idx_workflow_instance_work_item_id", columnList = "work_item_id, created_at DESC"),
+        @Index(name = "idx_workflow_instance_status_completed_at", columnList = "status, completed_at")
+})
 @Getter
 @Setter
 public class WorkflowInstance extends BaseEntity {
@@ -40,6 +44,13 @@ public class WorkflowInstance extends BaseEntity {
     @Column(name = "completed_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
     private Timestamp completedAt;
 
+    /**
+     * When the step instances, tasks, decisions and comments of this terminal instance were moved to the
+     * history tables. Null while they are still in the active tables.
+     */
+    @Column(name = "archived_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp archivedAt;
+
     /**
      * Optional read-only association to parent work item.
      * Not used for persistence, only for convenience queries.
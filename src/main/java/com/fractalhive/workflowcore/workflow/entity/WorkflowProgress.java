@@ -0,0 +1,61 @@
+package com.fractalhive.workflowcore.workflow.entity;
+
+import com.fractalhive.workflowcore.common.entity.BaseEntity;
+import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Denormalized progress snapshot of a workflow instance, one row per instance.
+ * Maintained by the workflow, step and task transition actions so that progress
+ * reads are a single-row lookup instead of a recomputation over steps and tasks.
+ * The {@code createdAt} column mirrors the instance's creation time.
+ */
+@Entity
+@Table(name = "workflow_progress",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"workflow_instance_id"}),
+       indexes = @Index(name = "idx_workflow_progress_work_item", columnList = "work_item_id, created_at DESC"))
+@Getter
+@Setter
+public class WorkflowProgress extends BaseEntity {
+
+    @Column(name = "workflow_instance_id", nullable = false, updatable = false)
+    private UUID workflowInstanceId;
+
+    @Column(name = "work_item_id", nullable = false, updatable = false)
+    private UUID workItemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "workflow_status", nullable = false, length = 30)
+    private WorkflowStatus workflowStatus;
+
+    @Column(name = "completed_steps", nullable = false)
+    private int completedSteps;
+
+    @Column(name = "total_steps", nullable = false)
+    private int totalSteps;
+
+    /**
+     * Lowest step order currently IN_PROGRESS, or null if no step is running.
+     */
+    @Column(name = "current_step_order")
+    private Integer currentStepOrder;
+
+    @Column(name = "percentage", nullable = false)
+    private int percentage;
+
+    /**
+     * Comma-separated IDs of approvers with a PENDING task.
+     */
+    @Column(name = "pending_approvers", columnDefinition = "TEXT")
+    private String pendingApprovers;
+
+    /**
+     * Full progress response serialized as JSON.
+     */
+    @Column(name = "snapshot", nullable = false, columnDefinition = "TEXT")
+    private String snapshot;
+}
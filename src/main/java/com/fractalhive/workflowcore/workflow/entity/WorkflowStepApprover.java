@@ -6,6 +6,8 @@ import com.fractalhive.workflowcore.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
@@ -14,6 +16,8 @@ import java.util.UUID;
  * Approvers can be users, roles, or manager chains.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DefinitionCacheRegions.STEP_APPROVER)
 @Table(name = "workflow_step_approver")
 @Getter
 @Setter
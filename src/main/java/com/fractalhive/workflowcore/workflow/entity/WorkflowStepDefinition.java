@@ -6,6 +6,8 @@ import com.fractalhive.workflowcore.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.UUID;
@@ -15,6 +17,8 @@ import java.util.UUID;
  * Steps define approval rules, SLA, and execution order.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = DefinitionCacheRegions.STEP_DEFINITION)
 @Table(name = "workflow_step_definition")
 @Getter
 @Setter
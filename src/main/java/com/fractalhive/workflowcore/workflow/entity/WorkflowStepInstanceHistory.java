@@ -0,0 +1,61 @@
+package com.fractalhive.workflowcore.workflow.entity;
+
+import com.fractalhive.workflowcore.common.entity.BaseEntity;
+import com.fractalhive.workflowcore.workflow.enums.StepStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Archived copy of a {@link WorkflowStepInstance} of a terminal workflow instance.
+ * Rows are moved here by the history archiver and never change afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "workflow_step_instance_history", indexes = {
+        @Index(name = "idx_step_instance_history_workflow_instance", columnList = "workflow_instance_id")
+})
+@Getter
+@Setter
+public class WorkflowStepInstanceHistory extends BaseEntity {
+
+    @Column(name = "workflow_instance_id", nullable = false, updatable = false)
+    private UUID workflowInstanceId;
+
+    @Column(name = "step_id", nullable = false, updatable = false)
+    private UUID stepId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private StepStatus status;
+
+    @Column(name = "started_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp startedAt;
+
+    @Column(name = "completed_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private Timestamp completedAt;
+
+    /**
+     * Returns a detached step instance with the archived values, for code that reads active step instances.
+     *
+     * @return detached step instance
+     */
+    public WorkflowStepInstance toStepInstance() {
+        WorkflowStepInstance stepInstance = new WorkflowStepInstance();
+        stepInstance.setId(getId());
+        stepInstance.setCreatedAt(getCreatedAt());
+        stepInstance.setCreatedBy(getCreatedBy());
+        stepInstance.setUpdatedAt(getUpdatedAt());
+        stepInstance.setUpdatedBy(getUpdatedBy());
+        stepInstance.setWorkflowInstanceId(workflowInstanceId);
+        stepInstance.setStepId(stepId);
+        stepInstance.setStatus(status);
+        stepInstance.setStartedAt(startedAt);
+        stepInstance.setCompletedAt(completedAt);
+        return stepInstance;
+    }
+}
@@ -1,7 +1,15 @@
 package com.fractalhive.workflowcore.workflow.repository;
 
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionHeader;
+import com.fractalhive.workflowcore.workflow.entity.DefinitionCacheRegions;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowDefinition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,10 +32,15 @@ public interface WorkflowDefinitionRepository extends JpaRepository<WorkflowDefi
 
     /**
      * Find the latest active version of a workflow by name.
+     * Results are query-cached when the second-level cache is enabled.
      *
      * @param name the workflow name
      * @return optional workflow definition
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = DefinitionCacheRegions.DEFINITION_QUERIES)
+    })
     Optional<WorkflowDefinition> findFirstByNameAndIsActiveTrueOrderByVersionDesc(String name);
 
     /**
@@ -46,4 +59,24 @@ public interface WorkflowDefinitionRepository extends JpaRepository<WorkflowDefi
      * @return optional workflow definition with highest version
      */
     Optional<WorkflowDefinition> findFirstByNameOrderByVersionDesc(String name);
+
+    /**
+     * Find the header (id, name, version, active flag) of a workflow definition
+     * without loading steps or approvers.
+     *
+     * @param id the workflow definition ID
+     * @return optional definition header
+     */
+    Optional<WorkflowDefinitionHeader> findHeaderById(UUID id);
+
+    /**
+     * Set the has-instances flag of a workflow definition if it is not set yet.
+     * Writes at most once per definition; later calls match no rows.
+     *
+     * @param id the workflow definition ID
+     * @return number of rows updated (0 or 1)
+     */
+    @Modifying
+    @Query("UPDATE WorkflowDefinition d SET d.hasInstances = true WHERE d.id = :id AND d.hasInstances = false")
+    int markHasInstances(@Param("id") UUID id);
 }
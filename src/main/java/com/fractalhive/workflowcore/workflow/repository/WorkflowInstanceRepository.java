@@ -2,9 +2,15 @@ package com.fractalhive.workflowcore.workflow.repository;
 
 import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
 import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,6 +47,15 @@ public interface WorkflowInstanceRepository extends JpaRepository<WorkflowInstan
     Optional<WorkflowInstance> findFirstByWorkItemIdAndStatusInOrderByCreatedAtDesc(
             UUID workItemId, List<WorkflowStatus> statuses);
 
+    /**
+     * Find the oldest workflow instance that is still in one of the given statuses. Used to keep partitions
+     * that hold the tasks of unfinished workflows attached.
+     *
+     * @param statuses the workflow statuses
+     * @return the oldest matching workflow instance, if any
+     */
+    Optional<WorkflowInstance> findFirstByStatusInOrderByCreatedAtAsc(Collection<WorkflowStatus> statuses);
+
     /**
      * Find workflow instances by workflow definition ID.
      *
@@ -48,4 +63,64 @@ public interface WorkflowInstanceRepository extends JpaRepository<WorkflowInstan
      * @return list of workflow instances
      */
     List<WorkflowInstance> findByWorkflowId(UUID workflowId);
+
+    /**
+     * Check whether any workflow instance exists for a workflow definition.
+     *
+     * @param workflowId the workflow definition ID
+     * @return true if at least one instance exists
+     */
+    boolean existsByWorkflowId(UUID workflowId);
+
+    /**
+     * Count workflow instances for a workflow definition.
+     *
+     * @param workflowId the workflow definition ID
+     * @return number of instances
+     */
+    long countByWorkflowId(UUID workflowId);
+
+    /**
+     * Find terminal workflow instances that finished before a cutoff and have not been archived yet.
+     *
+     * @param statuses        the terminal statuses
+     * @param completedBefore only instances completed before this time
+     * @param pageable        batch size
+     * @return workflow instance IDs, oldest first
+     */
+    @Query("SELECT i.id FROM WorkflowInstance i WHERE i.status IN :statuses AND i.archivedAt IS NULL "
+            + "AND i.completedAt < :completedBefore ORDER BY i.completedAt ASC")
+    List<UUID> findArchivableIds(@Param("statuses") Collection<WorkflowStatus> statuses,
+                                 @Param("completedBefore") Timestamp completedBefore,
+                                 Pageable pageable);
+
+    /**
+     * Record that the runtime rows of workflow instances were moved to the history tables.
+     *
+     * @param ids        the workflow instance IDs
+     * @param archivedAt the archive timestamp
+     * @return number of instances updated
+     */
+    @Modifying
+    @Query("UPDATE WorkflowInstance i SET i.archivedAt = :archivedAt WHERE i.id IN :ids")
+    int markArchived(@Param("ids") Collection<UUID> ids, @Param("archivedAt") Timestamp archivedAt);
+
+    /**
+     * Find the IDs of all workflow instances of a set of work items.
+     *
+     * @param workItemIds the work item IDs
+     * @return workflow instance IDs
+     */
+    @Query("SELECT i.id FROM WorkflowInstance i WHERE i.workItemId IN :workItemIds")
+    List<UUID> findIdsByWorkItemIds(@Param("workItemIds") Collection<UUID> workItemIds);
+
+    /**
+     * Delete the workflow instances of work items in one statement. Used when purging work items; their step instances and progress snapshots must have been deleted first.
+     *
+     * @param workItemIds the work item IDs
+     * @return number of workflow instances deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkflowInstance i WHERE i.workItemId IN :workItemIds")
+    int deleteByWorkItemIds(@Param("workItemIds") Collection<UUID> workItemIds);
 }
@@ -0,0 +1,62 @@
+package com.fractalhive.workflowcore.workflow.repository;
+
+import com.fractalhive.workflowcore.workflow.dto.WorkflowProgressVersion;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowProgress;
+import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for WorkflowProgress snapshot entities.
+ */
+@Repository
+public interface WorkflowProgressRepository extends JpaRepository<WorkflowProgress, UUID> {
+
+    /**
+     * Find the progress snapshot of a workflow instance.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return optional progress snapshot
+     */
+    Optional<WorkflowProgress> findByWorkflowInstanceId(UUID workflowInstanceId);
+
+    /**
+     * Find the progress snapshot of the most recent workflow instance of a work item
+     * whose status is in the given list.
+     *
+     * @param workItemId the work item ID
+     * @param statuses   the workflow statuses
+     * @return optional progress snapshot
+     */
+    Optional<WorkflowProgress> findFirstByWorkItemIdAndWorkflowStatusInOrderByCreatedAtDesc(
+            UUID workItemId, List<WorkflowStatus> statuses);
+
+    /**
+     * Find the instance ID and modification time of the snapshot
+     * {@link #findFirstByWorkItemIdAndWorkflowStatusInOrderByCreatedAtDesc} returns, without reading the snapshot.
+     *
+     * @param workItemId the work item ID
+     * @param statuses   the workflow statuses
+     * @return optional snapshot version
+     */
+    Optional<WorkflowProgressVersion> findFirstVersionByWorkItemIdAndWorkflowStatusInOrderByCreatedAtDesc(
+            UUID workItemId, List<WorkflowStatus> statuses);
+
+    /**
+     * Delete the progress snapshots of work items in one statement. Used when purging work items.
+     *
+     * @param workItemIds the work item IDs
+     * @return number of progress snapshots deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkflowProgress p WHERE p.workItemId IN :workItemIds")
+    int deleteByWorkItemIds(@Param("workItemIds") Collection<UUID> workItemIds);
+}
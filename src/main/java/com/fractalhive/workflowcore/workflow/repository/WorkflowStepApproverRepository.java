@@ -1,9 +1,14 @@
 package com.fractalhive.workflowcore.workflow.repository;
 
+import com.fractalhive.workflowcore.workflow.entity.DefinitionCacheRegions;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepApprover;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,9 +20,22 @@ public interface WorkflowStepApproverRepository extends JpaRepository<WorkflowSt
 
     /**
      * Find all approvers for a workflow step.
+     * Results are query-cached when the second-level cache is enabled.
      *
      * @param stepId the step ID
      * @return list of approvers
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = DefinitionCacheRegions.DEFINITION_QUERIES)
+    })
     List<WorkflowStepApprover> findByStepId(UUID stepId);
+
+    /**
+     * Find all approvers for a set of workflow steps in one query.
+     *
+     * @param stepIds the step IDs
+     * @return list of approvers
+     */
+    List<WorkflowStepApprover> findByStepIdIn(Collection<UUID> stepIds);
 }
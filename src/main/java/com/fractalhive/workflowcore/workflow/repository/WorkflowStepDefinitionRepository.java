@@ -1,9 +1,14 @@
 package com.fractalhive.workflowcore.workflow.repository;
 
+import com.fractalhive.workflowcore.workflow.entity.DefinitionCacheRegions;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,9 +20,22 @@ public interface WorkflowStepDefinitionRepository extends JpaRepository<Workflow
 
     /**
      * Find all step definitions for a workflow, ordered by step order.
+     * Results are query-cached when the second-level cache is enabled.
      *
      * @param workflowId the workflow ID
      * @return list of step definitions
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = DefinitionCacheRegions.DEFINITION_QUERIES)
+    })
     List<WorkflowStepDefinition> findByWorkflowIdOrderByStepOrderAsc(UUID workflowId);
+
+    /**
+     * Find all step definitions for a set of workflows in one query, ordered by step order.
+     *
+     * @param workflowIds the workflow IDs
+     * @return list of step definitions
+     */
+    List<WorkflowStepDefinition> findByWorkflowIdInOrderByStepOrderAsc(Collection<UUID> workflowIds);
 }
@@ -0,0 +1,60 @@
+package com.fractalhive.workflowcore.workflow.repository;
+
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstanceHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for archived WorkflowStepInstance rows.
+ */
+@Repository
+public interface WorkflowStepInstanceHistoryRepository extends JpaRepository<WorkflowStepInstanceHistory, UUID> {
+
+    /**
+     * Find archived step instances of a workflow instance together with their step definitions in one query.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return rows of archived step instance and step definition, ordered by step order
+     */
+    @Query("SELECT si, sd FROM WorkflowStepInstanceHistory si "
+            + "LEFT JOIN WorkflowStepDefinition sd ON sd.id = si.stepId "
+            + "WHERE si.workflowInstanceId = :workflowInstanceId "
+            + "ORDER BY sd.stepOrder ASC")
+    List<Object[]> findWithDefinitionByWorkflowInstanceId(@Param("workflowInstanceId") UUID workflowInstanceId);
+
+    /**
+     * Move the step instances of workflow instances from the active table to the history table in one
+     * statement. Tasks must have been moved first.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of step instances moved
+     */
+    @Modifying
+    @Query(value = "WITH moved AS ("
+            + "DELETE FROM workflow_step_instance s WHERE s.workflow_instance_id IN (:workflowInstanceIds) "
+            + "RETURNING s.*) "
+            + "INSERT INTO workflow_step_instance_history "
+            + "(id, created_at, created_by, updated_at, updated_by, workflow_instance_id, step_id, status, "
+            + "started_at, completed_at) "
+            + "SELECT id, created_at, created_by, updated_at, updated_by, workflow_instance_id, step_id, status, "
+            + "started_at, completed_at FROM moved",
+            nativeQuery = true)
+    int moveFromActive(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+
+    /**
+     * Delete the archived step instances of workflow instances in one statement. Used when purging work items; their archived tasks must have been deleted first.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of archived step instances deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkflowStepInstanceHistory s WHERE s.workflowInstanceId IN :workflowInstanceIds")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
+}
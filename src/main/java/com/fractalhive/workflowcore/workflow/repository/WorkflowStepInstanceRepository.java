@@ -3,8 +3,12 @@ package com.fractalhive.workflowcore.workflow.repository;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
 import com.fractalhive.workflowcore.workflow.enums.StepStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,4 +34,28 @@ public interface WorkflowStepInstanceRepository extends JpaRepository<WorkflowSt
      * @return list of step instances
      */
     List<WorkflowStepInstance> findByWorkflowInstanceIdAndStatus(UUID workflowInstanceId, StepStatus status);
+
+    /**
+     * Find all step instances of a workflow instance together with their step definitions in one query.
+     * Each row is {@code [WorkflowStepInstance, WorkflowStepDefinition]}; the definition is null
+     * if it no longer exists.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return rows of step instance and step definition, ordered by step order
+     */
+    @Query("SELECT si, sd FROM WorkflowStepInstance si "
+            + "LEFT JOIN WorkflowStepDefinition sd ON sd.id = si.stepId "
+            + "WHERE si.workflowInstanceId = :workflowInstanceId "
+            + "ORDER BY sd.stepOrder ASC")
+    List<Object[]> findWithDefinitionByWorkflowInstanceId(@Param("workflowInstanceId") UUID workflowInstanceId);
+
+    /**
+     * Delete the step instances of workflow instances in one statement. Used when purging work items; their tasks must have been deleted first.
+     *
+     * @param workflowInstanceIds the workflow instance IDs
+     * @return number of step instances deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkflowStepInstance s WHERE s.workflowInstanceId IN :workflowInstanceIds")
+    int deleteByWorkflowInstanceIds(@Param("workflowInstanceIds") Collection<UUID> workflowInstanceIds);
 }
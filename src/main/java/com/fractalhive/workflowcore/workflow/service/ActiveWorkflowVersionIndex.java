@@ -0,0 +1,115 @@
+package com.fractalhive.workflowcore.workflow.service;
+
+import com.fractalhive.workflowcore.common.entity.BaseEntity;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowDefinitionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory index of workflow name to the ID of its latest active definition version.
+ * Entries are loaded on first use and refreshed after the definition service commits a change
+ * that can move the active version (create, update, activate, deactivate, delete).
+ * The index is local to this node. Entries expire after
+ * {@code workflow-core.cache.active-version-time-to-live}, which bounds how long a version created or
+ * activated on another node goes unnoticed while the old one stays active. Callers must still tolerate an
+ * entry that was deactivated or deleted elsewhere (see {@link #reload(String)}).
+ */
+@Component
+public class ActiveWorkflowVersionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActiveWorkflowVersionIndex.class);
+
+    private final WorkflowDefinitionRepository workflowDefinitionRepository;
+    private final long timeToLiveNanos;
+    private final ConcurrentMap<String, Entry> activeVersionByName = new ConcurrentHashMap<>();
+
+    public ActiveWorkflowVersionIndex(WorkflowDefinitionRepository workflowDefinitionRepository,
+                                      WorkflowCoreProperties properties) {
+        this.workflowDefinitionRepository = workflowDefinitionRepository;
+        this.timeToLiveNanos = properties.getCache().getActiveVersionTimeToLive().toNanos();
+    }
+
+    /**
+     * Resolves the latest active version of a workflow by name.
+     *
+     * @param name the workflow name
+     * @return the workflow definition ID
+     * @throws IllegalArgumentException if no active version exists
+     */
+    public UUID resolve(String name) {
+        Entry cached = activeVersionByName.get(name);
+        if (cached != null && System.nanoTime() - cached.expiresAt < 0) {
+            return cached.workflowId;
+        }
+        UUID workflowId = lookup(name)
+                .orElseThrow(() -> new IllegalArgumentException("No active workflow definition found: " + name));
+        activeVersionByName.put(name, newEntry(workflowId));
+        return workflowId;
+    }
+
+    /**
+     * Drops the entry for a workflow name and resolves it again from the database.
+     * Used when a cached ID turns out to be deleted or no longer active.
+     *
+     * @param name the workflow name
+     * @return the workflow definition ID
+     * @throws IllegalArgumentException if no active version exists
+     */
+    public UUID reload(String name) {
+        activeVersionByName.remove(name);
+        return resolve(name);
+    }
+
+    /**
+     * Refreshes the entry for a workflow name once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param name the workflow name
+     */
+    public void refresh(String name) {
+        if (name == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshNow(name);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshNow(name);
+            }
+        });
+    }
+
+    private void refreshNow(String name) {
+        Optional<UUID> workflowId = lookup(name);
+        if (workflowId.isPresent()) {
+            activeVersionByName.put(name, newEntry(workflowId.get()));
+        } else {
+            activeVersionByName.remove(name);
+        }
+        logger.debug("Refreshed active version of workflow {}: {}", name, workflowId.orElse(null));
+    }
+
+    private Optional<UUID> lookup(String name) {
+        return workflowDefinitionRepository.findFirstByNameAndIsActiveTrueOrderByVersionDesc(name)
+                .map(BaseEntity::getId);
+    }
+
+    private Entry newEntry(UUID workflowId) {
+        return new Entry(workflowId, System.nanoTime() + timeToLiveNanos);
+    }
+
+    private record Entry(UUID workflowId, long expiresAt) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.fractalhive.workflowcore.workflow.service;
+
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionGraph;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionHeader;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowDefinitionRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepDefinitionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Loads the runtime view of a workflow definition for the orchestrator.
+ * Costs two queries (header projection and ordered steps) regardless of the number of steps.
+ */
+@Component
+public class WorkflowDefinitionGraphLoader {
+
+    private final WorkflowDefinitionRepository workflowDefinitionRepository;
+    private final WorkflowStepDefinitionRepository stepDefinitionRepository;
+
+    public WorkflowDefinitionGraphLoader(WorkflowDefinitionRepository workflowDefinitionRepository,
+                                         WorkflowStepDefinitionRepository stepDefinitionRepository) {
+        this.workflowDefinitionRepository = workflowDefinitionRepository;
+        this.stepDefinitionRepository = stepDefinitionRepository;
+    }
+
+    /**
+     * Gets the header of a workflow definition without loading steps or approvers.
+     *
+     * @param workflowId the workflow definition ID
+     * @return the definition header
+     * @throws IllegalArgumentException if the definition does not exist
+     */
+    @Transactional(readOnly = true)
+    public WorkflowDefinitionHeader getHeader(UUID workflowId) {
+        return workflowDefinitionRepository.findHeaderById(workflowId)
+                .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
+    }
+
+    /**
+     * Loads a workflow definition with its step definitions ordered by step order.
+     *
+     * @param workflowId the workflow definition ID
+     * @return the definition graph
+     * @throws IllegalArgumentException if the definition does not exist
+     */
+    @Transactional(readOnly = true)
+    public WorkflowDefinitionGraph load(UUID workflowId) {
+        return find(workflowId)
+                .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
+    }
+
+    /**
+     * Loads a workflow definition with its step definitions ordered by step order, if it exists.
+     * Unlike {@link #load(UUID)} a missing definition does not throw, so callers inside a larger
+     * transaction can report it without marking that transaction rollback-only.
+     *
+     * @param workflowId the workflow definition ID
+     * @return the definition graph, or empty if the definition does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<WorkflowDefinitionGraph> find(UUID workflowId) {
+        return workflowDefinitionRepository.findHeaderById(workflowId)
+                .map(this::toGraph);
+    }
+
+    /**
+     * Loads a workflow definition with its ordered step definitions, but only if it exists and is active.
+     *
+     * @param workflowId the workflow definition ID
+     * @return the definition graph, or empty if the definition is missing or inactive
+     */
+    @Transactional(readOnly = true)
+    public Optional<WorkflowDefinitionGraph> loadIfActive(UUID workflowId) {
+        return workflowDefinitionRepository.findHeaderById(workflowId)
+                .filter(header -> Boolean.TRUE.equals(header.getIsActive()))
+                .map(this::toGraph);
+    }
+
+    private WorkflowDefinitionGraph toGraph(WorkflowDefinitionHeader header) {
+        List<WorkflowStepDefinition> steps = stepDefinitionRepository.findByWorkflowIdOrderByStepOrderAsc(header.getId());
+        return new WorkflowDefinitionGraph(header, steps);
+    }
+}
@@ -3,6 +3,7 @@ package com.fractalhive.workflowcore.workflow.service;
 import com.fractalhive.workflowcore.workflow.dto.ApproverRequest;
 import com.fractalhive.workflowcore.workflow.dto.StepDefinitionRequest;
 import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionCreateRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionPageResponse;
 import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionResponse;
 
 import java.util.List;
@@ -52,6 +53,15 @@ public interface WorkflowDefinitionService {
      */
     WorkflowDefinitionResponse getWorkflow(UUID workflowId);
 
+    /**
+     * Computes the entity tag of the response {@link #getWorkflow(UUID)} returns, from the definition row alone.
+     * Every change to the definition, its steps or its approvers stamps the definition's {@code updatedAt}.
+     *
+     * @param workflowId the workflow ID
+     * @return the quoted entity tag
+     */
+    String getWorkflowETag(UUID workflowId);
+
     /**
      * Retrieves a workflow definition by name and version.
      *
@@ -92,6 +102,25 @@ public interface WorkflowDefinitionService {
      */
     List<WorkflowDefinitionResponse> listWorkflows();
 
+    /**
+     * Lists all workflow definitions.
+     * Steps and approvers of all definitions are loaded with two queries in total.
+     *
+     * @param includeSteps whether to include steps and approvers
+     * @return list of workflow definitions
+     */
+    List<WorkflowDefinitionResponse> listWorkflows(boolean includeSteps);
+
+    /**
+     * Lists one page of workflow definitions, ordered by name and then version descending.
+     *
+     * @param page         zero-based page index
+     * @param size         page size
+     * @param includeSteps whether to include steps and approvers
+     * @return the page of workflow definitions
+     */
+    WorkflowDefinitionPageResponse listWorkflowsPage(int page, int size, boolean includeSteps);
+
     /**
      * Updates a workflow definition.
      * If workflow instances exist, creates a new version instead of updating the existing one.
@@ -1,27 +1,36 @@
 package com.fractalhive.workflowcore.workflow.service;
 
 import com.fractalhive.workflowcore.approval.enums.ApprovalType;
+import com.fractalhive.workflowcore.common.persistence.InClauseChunks;
+import com.fractalhive.workflowcore.common.web.EntityTags;
 import com.fractalhive.workflowcore.workflow.dto.ApproverRequest;
 import com.fractalhive.workflowcore.workflow.dto.StepDefinitionRequest;
 import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionCreateRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionHeader;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionPageResponse;
 import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionResponse;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowDefinition;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepApprover;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
-import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowDefinitionRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepApproverRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepDefinitionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,20 +43,26 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
 
     private static final Logger logger = LoggerFactory.getLogger(WorkflowDefinitionServiceImpl.class);
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort DEFINITION_ORDER = Sort.by(Sort.Order.asc("name"), Sort.Order.desc("version"));
+
     private final WorkflowDefinitionRepository workflowDefinitionRepository;
     private final WorkflowStepDefinitionRepository workflowStepDefinitionRepository;
     private final WorkflowStepApproverRepository workflowStepApproverRepository;
     private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final ActiveWorkflowVersionIndex activeVersionIndex;
 
     public WorkflowDefinitionServiceImpl(
             WorkflowDefinitionRepository workflowDefinitionRepository,
             WorkflowStepDefinitionRepository workflowStepDefinitionRepository,
             WorkflowStepApproverRepository workflowStepApproverRepository,
-            WorkflowInstanceRepository workflowInstanceRepository) {
+            WorkflowInstanceRepository workflowInstanceRepository,
+            ActiveWorkflowVersionIndex activeVersionIndex) {
         this.workflowDefinitionRepository = workflowDefinitionRepository;
         this.workflowStepDefinitionRepository = workflowStepDefinitionRepository;
         this.workflowStepApproverRepository = workflowStepApproverRepository;
         this.workflowInstanceRepository = workflowInstanceRepository;
+        this.activeVersionIndex = activeVersionIndex;
     }
 
     @Override
@@ -75,6 +90,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
 
         WorkflowDefinition saved = workflowDefinitionRepository.save(workflow);
         logger.info("Created workflow definition: {} v{} (ID: {})", request.getName(), request.getVersion(), saved.getId());
+        activeVersionIndex.refresh(saved.getName());
 
         // If a previous version exists, copy its steps and approvers to the new version
         if (previousVersion.isPresent()) {
@@ -102,7 +118,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
 
         // Block modification if workflow instances exist
-        checkNoInstancesExist(workflowId, workflow.getName(), workflow.getVersion());
+        checkNoInstancesExist(workflow);
 
         // Validate minApprovals for N_OF_M approval type
         if (request.getApprovalType() == ApprovalType.N_OF_M) {
@@ -150,6 +166,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
         step.setCreatedBy(createdBy);
 
         WorkflowStepDefinition saved = workflowStepDefinitionRepository.save(step);
+        markModified(workflow, createdBy);
         logger.info("Created step definition: {} (ID: {}) for workflow {}", request.getStepName(), saved.getId(), workflowId);
 
         // Create approvers if provided
@@ -199,7 +216,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Step definition not found: " + stepId));
 
         // Block modification if workflow instances exist
-        checkNoInstancesExistForStep(step.getWorkflowId());
+        WorkflowDefinition workflow = checkNoInstancesExistForStep(step.getWorkflowId());
 
         // Get existing approvers
         List<WorkflowStepApprover> existingApprovers = workflowStepApproverRepository.findByStepId(stepId);
@@ -219,6 +236,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
         // Create all approvers
         Timestamp now = Timestamp.from(Instant.now());
         List<UUID> createdApproverIds = createApproversForStep(stepId, requests, createdBy, now);
+        markModified(workflow, createdBy);
 
         logger.info("Added {} approver(s) to step {} (IDs: {})",
                 requests.size(), stepId, createdApproverIds);
@@ -233,6 +251,16 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
         return toResponse(workflow);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getWorkflowETag(UUID workflowId) {
+        WorkflowDefinitionHeader header = workflowDefinitionRepository.findHeaderById(workflowId)
+                .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
+        // has-instances is flagged by a bulk update when the definition is first started, so it is part of the tag
+        return EntityTags.of(header.getId(), header.getCreatedAt(), header.getUpdatedAt(),
+                header.getIsActive(), header.getHasInstances());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public WorkflowDefinitionResponse getWorkflowByNameAndVersion(String name, Integer version) {
@@ -258,8 +286,10 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
 
         workflow.setIsActive(true);
+        markModified(workflow, userId);
         workflowDefinitionRepository.save(workflow);
         logger.info("Activated workflow version: {} v{}", workflow.getName(), workflow.getVersion());
+        activeVersionIndex.refresh(workflow.getName());
     }
 
     @Override
@@ -269,17 +299,47 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
 
         workflow.setIsActive(false);
+        markModified(workflow, userId);
         workflowDefinitionRepository.save(workflow);
         logger.info("Deactivated workflow version: {} v{}", workflow.getName(), workflow.getVersion());
+        activeVersionIndex.refresh(workflow.getName());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<WorkflowDefinitionResponse> listWorkflows() {
-        List<WorkflowDefinition> workflows = workflowDefinitionRepository.findAll();
-        return workflows.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return listWorkflows(true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkflowDefinitionResponse> listWorkflows(boolean includeSteps) {
+        List<WorkflowDefinition> workflows = workflowDefinitionRepository.findAll(DEFINITION_ORDER);
+        return toResponses(workflows, includeSteps);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WorkflowDefinitionPageResponse listWorkflowsPage(int page, int size, boolean includeSteps) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative: " + page);
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        Page<WorkflowDefinition> result = workflowDefinitionRepository.findAll(
+                PageRequest.of(page, pageSize, DEFINITION_ORDER));
+
+        return WorkflowDefinitionPageResponse.builder()
+                .items(toResponses(result.getContent(), includeSteps))
+                .page(result.getNumber())
+                .size(pageSize)
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .hasNext(result.hasNext())
+                .build();
     }
 
     @Override
@@ -289,12 +349,10 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
 
         // Check if any workflow instances exist for this definition
-        List<WorkflowInstance> instances = workflowInstanceRepository.findByWorkflowId(workflowId);
-        
-        if (!instances.isEmpty()) {
+        if (hasInstances(workflow)) {
             // Instances exist - create a new version instead of updating
-            logger.info("Workflow definition {} v{} has {} instance(s). Creating new version instead of updating.",
-                    workflow.getName(), workflow.getVersion(), instances.size());
+            logger.info("Workflow definition {} v{} has instances. Creating new version instead of updating.",
+                    workflow.getName(), workflow.getVersion());
 
             // Determine the next version number
             int nextVersion = workflowDefinitionRepository
@@ -336,12 +394,15 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                         }
                     });
 
+            String previousName = workflow.getName();
             workflow.setName(request.getName());
             workflow.setVersion(request.getVersion());
             workflow.setUpdatedAt(Timestamp.from(Instant.now()));
             workflow.setUpdatedBy(updatedBy);
 
             workflowDefinitionRepository.save(workflow);
+            activeVersionIndex.refresh(previousName);
+            activeVersionIndex.refresh(request.getName());
             logger.info("Updated workflow definition: {} v{} (ID: {})", request.getName(), request.getVersion(), workflowId);
             
             return workflowId;
@@ -365,6 +426,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
         }
 
         workflowDefinitionRepository.delete(workflow);
+        activeVersionIndex.refresh(workflow.getName());
         logger.info("Deleted workflow definition: {} v{} (ID: {})", workflow.getName(), workflow.getVersion(), workflowId);
     }
 
@@ -375,7 +437,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Step definition not found: " + stepId));
 
         // Block modification if workflow instances exist
-        checkNoInstancesExistForStep(step.getWorkflowId());
+        WorkflowDefinition workflow = checkNoInstancesExistForStep(step.getWorkflowId());
 
         // Validate minApprovals for N_OF_M
         if (request.getApprovalType() == ApprovalType.N_OF_M) {
@@ -397,6 +459,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
         step.setUpdatedBy(updatedBy);
 
         workflowStepDefinitionRepository.save(step);
+        markModified(workflow, updatedBy);
         logger.info("Updated step definition: {} (ID: {})", request.getStepName(), stepId);
     }
 
@@ -407,13 +470,14 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Step definition not found: " + stepId));
 
         // Block modification if workflow instances exist
-        checkNoInstancesExistForStep(step.getWorkflowId());
+        WorkflowDefinition workflow = checkNoInstancesExistForStep(step.getWorkflowId());
 
         // Delete all approvers first
         List<WorkflowStepApprover> approvers = workflowStepApproverRepository.findByStepId(stepId);
         workflowStepApproverRepository.deleteAll(approvers);
 
         workflowStepDefinitionRepository.delete(step);
+        markModified(workflow, null);
         logger.info("Deleted step definition: {} (ID: {})", step.getStepName(), stepId);
     }
 
@@ -428,7 +492,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
                 .orElseThrow(() -> new IllegalArgumentException("Step definition not found: " + stepId));
 
         // Block modification if workflow instances exist
-        checkNoInstancesExistForStep(step.getWorkflowId());
+        WorkflowDefinition workflow = checkNoInstancesExistForStep(step.getWorkflowId());
 
         // Get remaining approvers after removal
         List<WorkflowStepApprover> remainingApprovers = workflowStepApproverRepository.findByStepId(stepId);
@@ -444,6 +508,7 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
         }
 
         workflowStepApproverRepository.delete(approver);
+        markModified(workflow, null);
         logger.info("Removed approver {} (ID: {}) from step {}", approver.getApproverValue(), approverId, stepId);
     }
 
@@ -451,19 +516,37 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
      * Checks if workflow instances exist for this definition.
      * If they do, throws an exception advising to create a new version.
      *
-     * @param workflowId the workflow definition ID
-     * @param name       the workflow name
-     * @param version    the workflow version
+     * @param workflow the workflow definition
      */
-    private void checkNoInstancesExist(UUID workflowId, String name, Integer version) {
-        List<WorkflowInstance> instances = workflowInstanceRepository.findByWorkflowId(workflowId);
-        if (!instances.isEmpty()) {
+    private void checkNoInstancesExist(WorkflowDefinition workflow) {
+        if (hasInstances(workflow)) {
+            // Count only on the failure path, for the error message
+            long instanceCount = workflowInstanceRepository.countByWorkflowId(workflow.getId());
             throw new IllegalStateException(
                     String.format("Workflow definition '%s' v%d is used by %d work item(s). " +
                             "Cannot modify steps/approvers. Please create a new version by calling " +
                             "PUT /api/workflow-definitions/%s to auto-create a new version.",
-                            name, version, instances.size(), workflowId));
+                            workflow.getName(), workflow.getVersion(), instanceCount, workflow.getId()));
+        }
+    }
+
+    /**
+     * Checks whether a workflow definition has been started at least once.
+     * Trusts the has-instances flag when set; otherwise falls back to an indexed existence
+     * check (for definitions started before the flag existed) and backfills the flag.
+     *
+     * @param workflow the workflow definition
+     * @return true if instances exist
+     */
+    private boolean hasInstances(WorkflowDefinition workflow) {
+        if (Boolean.TRUE.equals(workflow.getHasInstances())) {
+            return true;
+        }
+        if (workflowInstanceRepository.existsByWorkflowId(workflow.getId())) {
+            workflow.setHasInstances(true);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -471,15 +554,35 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
      * If they do, throws an exception advising to create a new version.
      *
      * @param workflowId the workflow definition ID (from the step)
+     * @return the workflow definition
      */
-    private void checkNoInstancesExistForStep(UUID workflowId) {
+    private WorkflowDefinition checkNoInstancesExistForStep(UUID workflowId) {
         WorkflowDefinition workflow = workflowDefinitionRepository.findById(workflowId)
                 .orElseThrow(() -> new IllegalArgumentException("Workflow definition not found: " + workflowId));
-        checkNoInstancesExist(workflowId, workflow.getName(), workflow.getVersion());
+        checkNoInstancesExist(workflow);
+        return workflow;
+    }
+
+    /**
+     * Stamps a workflow definition as modified. Called for changes to its steps and approvers too,
+     * so that the definition's {@code updatedAt} versions the whole definition response.
+     *
+     * @param workflow the workflow definition, managed by the current transaction
+     * @param userId   the user making the change, or null if unknown
+     */
+    private void markModified(WorkflowDefinition workflow, String userId) {
+        workflow.setUpdatedAt(Timestamp.from(Instant.now()));
+        if (userId != null) {
+            workflow.setUpdatedBy(userId);
+        }
     }
 
     /**
      * Copies all steps and approvers from one workflow definition to another.
+     * <p>
+     * Steps and approvers are each read with one query and written with one {@code saveAll},
+     * which Hibernate sends as batched inserts, so forking a version costs the same number of
+     * statements regardless of how many steps and approvers the definition has.
      *
      * @param sourceWorkflowId the source workflow definition ID
      * @param targetWorkflowId the target workflow definition ID
@@ -490,9 +593,13 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
 
         List<WorkflowStepDefinition> originalSteps = workflowStepDefinitionRepository
                 .findByWorkflowIdOrderByStepOrderAsc(sourceWorkflowId);
+        if (originalSteps.isEmpty()) {
+            logger.info("No steps to copy from workflow {} to workflow {}", sourceWorkflowId, targetWorkflowId);
+            return;
+        }
 
+        List<WorkflowStepDefinition> newSteps = new ArrayList<>(originalSteps.size());
         for (WorkflowStepDefinition originalStep : originalSteps) {
-            // Create new step
             WorkflowStepDefinition newStep = new WorkflowStepDefinition();
             newStep.setWorkflowId(targetWorkflowId);
             newStep.setStepName(originalStep.getStepName());
@@ -502,58 +609,108 @@ public class WorkflowDefinitionServiceImpl implements WorkflowDefinitionService
             newStep.setSlaHours(originalStep.getSlaHours());
             newStep.setCreatedAt(now);
             newStep.setCreatedBy(createdBy);
-            newStep = workflowStepDefinitionRepository.save(newStep);
-
-            // Copy all approvers for this step
-            List<WorkflowStepApprover> originalApprovers = workflowStepApproverRepository.findByStepId(originalStep.getId());
-            for (WorkflowStepApprover originalApprover : originalApprovers) {
-                WorkflowStepApprover newApprover = new WorkflowStepApprover();
-                newApprover.setStepId(newStep.getId());
-                newApprover.setApproverType(originalApprover.getApproverType());
-                newApprover.setApproverValue(originalApprover.getApproverValue());
-                newApprover.setCreatedAt(now);
-                newApprover.setCreatedBy(createdBy);
-                workflowStepApproverRepository.save(newApprover);
-            }
+            newSteps.add(newStep);
+        }
+        newSteps = workflowStepDefinitionRepository.saveAll(newSteps);
+
+        // Map original step IDs to their copies (saveAll preserves input order)
+        Map<UUID, UUID> newStepIdByOriginalId = new HashMap<>();
+        for (int i = 0; i < originalSteps.size(); i++) {
+            newStepIdByOriginalId.put(originalSteps.get(i).getId(), newSteps.get(i).getId());
         }
 
-        logger.info("Copied {} step(s) and their approvers from workflow {} to workflow {}",
-                originalSteps.size(), sourceWorkflowId, targetWorkflowId);
+        List<WorkflowStepApprover> originalApprovers = workflowStepApproverRepository
+                .findByStepIdIn(newStepIdByOriginalId.keySet());
+        List<WorkflowStepApprover> newApprovers = new ArrayList<>(originalApprovers.size());
+        for (WorkflowStepApprover originalApprover : originalApprovers) {
+            WorkflowStepApprover newApprover = new WorkflowStepApprover();
+            newApprover.setStepId(newStepIdByOriginalId.get(originalApprover.getStepId()));
+            newApprover.setApproverType(originalApprover.getApproverType());
+            newApprover.setApproverValue(originalApprover.getApproverValue());
+            newApprover.setCreatedAt(now);
+            newApprover.setCreatedBy(createdBy);
+            newApprovers.add(newApprover);
+        }
+        workflowStepApproverRepository.saveAll(newApprovers);
+
+        logger.info("Copied {} step(s) and {} approver(s) from workflow {} to workflow {}",
+                newSteps.size(), newApprovers.size(), sourceWorkflowId, targetWorkflowId);
     }
 
     private WorkflowDefinitionResponse toResponse(WorkflowDefinition workflow) {
-        List<WorkflowStepDefinition> steps = workflowStepDefinitionRepository
-                .findByWorkflowIdOrderByStepOrderAsc(workflow.getId());
-
-        List<WorkflowDefinitionResponse.StepDefinitionResponse> stepResponses = steps.stream()
-                .map(step -> {
-                    List<WorkflowStepApprover> approvers = workflowStepApproverRepository.findByStepId(step.getId());
-                    List<WorkflowDefinitionResponse.ApproverResponse> approverResponses = approvers.stream()
-                            .map(approver -> WorkflowDefinitionResponse.ApproverResponse.builder()
-                                    .approverId(approver.getId())
-                                    .approverType(approver.getApproverType().name())
-                                    .approverValue(approver.getApproverValue())
-                                    .build())
-                            .collect(Collectors.toList());
-
-                    return WorkflowDefinitionResponse.StepDefinitionResponse.builder()
-                            .stepId(step.getId())
-                            .stepName(step.getStepName())
-                            .stepOrder(step.getStepOrder())
-                            .approvalType(step.getApprovalType().name())
-                            .minApprovals(step.getMinApprovals())
-                            .slaHours(step.getSlaHours())
-                            .approvers(approverResponses)
-                            .build();
-                })
+        return toResponses(List.of(workflow), true).get(0);
+    }
+
+    /**
+     * Renders workflow definitions with two extra queries per chunk of {@value InClauseChunks#MAX_SIZE} IDs: one
+     * for the steps of the definitions and one for the approvers of those steps, grouped in memory.
+     *
+     * @param workflows    the workflow definitions
+     * @param includeSteps whether to load and include steps and approvers
+     * @return the responses, in the order of the input
+     */
+    private List<WorkflowDefinitionResponse> toResponses(List<WorkflowDefinition> workflows, boolean includeSteps) {
+        if (workflows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<WorkflowStepDefinition>> stepsByWorkflow = Collections.emptyMap();
+        Map<UUID, List<WorkflowStepApprover>> approversByStep = Collections.emptyMap();
+
+        if (includeSteps) {
+            List<UUID> workflowIds = workflows.stream().map(WorkflowDefinition::getId).collect(Collectors.toList());
+            List<WorkflowStepDefinition> steps = InClauseChunks.query(workflowIds,
+                    workflowStepDefinitionRepository::findByWorkflowIdInOrderByStepOrderAsc);
+            stepsByWorkflow = steps.stream()
+                    .collect(Collectors.groupingBy(WorkflowStepDefinition::getWorkflowId));
+
+            if (!steps.isEmpty()) {
+                List<UUID> stepIds = steps.stream().map(WorkflowStepDefinition::getId).collect(Collectors.toList());
+                approversByStep = InClauseChunks.query(stepIds, workflowStepApproverRepository::findByStepIdIn).stream()
+                        .collect(Collectors.groupingBy(WorkflowStepApprover::getStepId));
+            }
+        }
+
+        List<WorkflowDefinitionResponse> responses = new ArrayList<>(workflows.size());
+        for (WorkflowDefinition workflow : workflows) {
+            List<WorkflowDefinitionResponse.StepDefinitionResponse> stepResponses = null;
+            if (includeSteps) {
+                Map<UUID, List<WorkflowStepApprover>> approvers = approversByStep;
+                stepResponses = stepsByWorkflow.getOrDefault(workflow.getId(), List.of()).stream()
+                        .map(step -> toStepResponse(step, approvers.getOrDefault(step.getId(), List.of())))
+                        .collect(Collectors.toList());
+            }
+
+            responses.add(WorkflowDefinitionResponse.builder()
+                    .workflowId(workflow.getId())
+                    .name(workflow.getName())
+                    .version(workflow.getVersion())
+                    .isActive(workflow.getIsActive())
+                    .hasInstances(workflow.getHasInstances())
+                    .steps(stepResponses)
+                    .build());
+        }
+        return responses;
+    }
+
+    private WorkflowDefinitionResponse.StepDefinitionResponse toStepResponse(WorkflowStepDefinition step,
+                                                                             List<WorkflowStepApprover> approvers) {
+        List<WorkflowDefinitionResponse.ApproverResponse> approverResponses = approvers.stream()
+                .map(approver -> WorkflowDefinitionResponse.ApproverResponse.builder()
+                        .approverId(approver.getId())
+                        .approverType(approver.getApproverType().name())
+                        .approverValue(approver.getApproverValue())
+                        .build())
                 .collect(Collectors.toList());
 
-        return WorkflowDefinitionResponse.builder()
-                .workflowId(workflow.getId())
-                .name(workflow.getName())
-                .version(workflow.getVersion())
-                .isActive(workflow.getIsActive())
-                .steps(stepResponses)
+        return WorkflowDefinitionResponse.StepDefinitionResponse.builder()
+                .stepId(step.getId())
+                .stepName(step.getStepName())
+                .stepOrder(step.getStepOrder())
+                .approvalType(step.getApprovalType().name())
+                .minApprovals(step.getMinApprovals())
+                .slaHours(step.getSlaHours())
+                .approvers(approverResponses)
                 .build();
     }
 }
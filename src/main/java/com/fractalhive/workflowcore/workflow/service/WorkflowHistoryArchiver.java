@@ -0,0 +1,167 @@
+package com.fractalhive.workflowcore.workflow.service;
+
+import com.fractalhive.workflowcore.approval.repository.ApprovalCommentHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskHistoryRepository;
+import com.fractalhive.workflowcore.approval.service.ApprovalTaskCountCache;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves the step instances, tasks, decisions and comments of finished workflow instances from the active
+ * tables to the {@code *_history} tables, so that the inbox and step queries only scan live rows.
+ * <p>
+ * Instances are archived in batches, one transaction per batch. Each table is moved with a single
+ * {@code DELETE ... RETURNING} feeding an {@code INSERT}, so a batch costs one statement per table
+ * regardless of its size, and rows can neither be lost nor duplicated between the two tables.
+ * The workflow instance row itself stays active and is stamped with {@code archivedAt}; reads of archived
+ * tasks and progress fall back to the history tables.
+ * <p>
+ * When {@code workflow-core.history.enabled} is set, the archiver runs on a private single-thread
+ * scheduler, which is not exposed as a bean so that it does not interfere with the host application's
+ * scheduling.
+ */
+@Component
+public class WorkflowHistoryArchiver implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowHistoryArchiver.class);
+
+    private static final List<WorkflowStatus> TERMINAL_STATUSES =
+            List.of(WorkflowStatus.COMPLETED, WorkflowStatus.FAILED, WorkflowStatus.CANCELLED);
+
+    private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository;
+    private final ApprovalTaskHistoryRepository approvalTaskHistoryRepository;
+    private final ApprovalDecisionHistoryRepository approvalDecisionHistoryRepository;
+    private final ApprovalCommentHistoryRepository approvalCommentHistoryRepository;
+    private final ApprovalTaskCountCache taskCountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowCoreProperties.History settings;
+    private ScheduledExecutorService scheduler;
+
+    public WorkflowHistoryArchiver(WorkflowInstanceRepository workflowInstanceRepository,
+                                   WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository,
+                                   ApprovalTaskHistoryRepository approvalTaskHistoryRepository,
+                                   ApprovalDecisionHistoryRepository approvalDecisionHistoryRepository,
+                                   ApprovalCommentHistoryRepository approvalCommentHistoryRepository,
+                                   ApprovalTaskCountCache taskCountCache,
+                                   PlatformTransactionManager transactionManager,
+                                   WorkflowCoreProperties properties) {
+        this.workflowInstanceRepository = workflowInstanceRepository;
+        this.stepInstanceHistoryRepository = stepInstanceHistoryRepository;
+        this.approvalTaskHistoryRepository = approvalTaskHistoryRepository;
+        this.approvalDecisionHistoryRepository = approvalDecisionHistoryRepository;
+        this.approvalCommentHistoryRepository = approvalCommentHistoryRepository;
+        this.taskCountCache = taskCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = properties.getHistory();
+    }
+
+    /**
+     * Archives every finished workflow instance that completed before the configured retention period.
+     *
+     * @return number of workflow instances archived
+     */
+    public int archive() {
+        return archiveCompletedBefore(Instant.now().minus(settings.getRetention()));
+    }
+
+    /**
+     * Archives every finished workflow instance that completed before a cutoff, batch by batch.
+     * A failing batch is rolled back and stops the run; batches committed before it stay archived.
+     *
+     * @param completedBefore only instances completed before this time are archived
+     * @return number of workflow instances archived
+     */
+    public int archiveCompletedBefore(Instant completedBefore) {
+        int batchSize = Math.max(1, settings.getBatchSize());
+        Timestamp cutoff = Timestamp.from(completedBefore);
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+            int count = archived != null ? archived : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Archived {} finished workflow instances completed before {}", total, completedBefore);
+        }
+        return total;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSchedule() {
+        if (!settings.isEnabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-history-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = settings.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runScheduled, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Workflow history archiver scheduled every {} (retention {})",
+                settings.getInterval(), settings.getRetention());
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void runScheduled() {
+        try {
+            archive();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the failed batch is retried on the next run
+            logger.warn("Workflow history archiving failed", e);
+        }
+    }
+
+    private int archiveBatch(Timestamp cutoff, int batchSize) {
+        List<UUID> ids = workflowInstanceRepository.findArchivableIds(
+                TERMINAL_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Children before parents, so the foreign keys of the active tables hold at every step
+        int comments = approvalCommentHistoryRepository.moveFromActive(ids);
+        int decisions = approvalDecisionHistoryRepository.moveFromActive(ids);
+        int tasks = approvalTaskHistoryRepository.moveFromActive(ids);
+        if (tasks > 0) {
+            // Task counts cover the active table only
+            taskCountCache.evictAll();
+        }
+        int steps = stepInstanceHistoryRepository.moveFromActive(ids);
+        workflowInstanceRepository.markArchived(ids, Timestamp.from(Instant.now()));
+
+        logger.debug("Archived {} workflow instances ({} steps, {} tasks, {} decisions, {} comments)",
+                ids.size(), steps, tasks, decisions, comments);
+        return ids.size();
+    }
+}
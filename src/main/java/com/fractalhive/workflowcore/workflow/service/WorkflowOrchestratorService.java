@@ -1,8 +1,12 @@
 package com.fractalhive.workflowcore.workflow.service;
 
 import com.fractalhive.workflowcore.approval.enums.DecisionType;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartResult;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service that orchestrates workflow execution.
@@ -23,6 +27,33 @@ public interface WorkflowOrchestratorService {
      */
     UUID startWorkflow(UUID workItemId, UUID workflowDefinitionId, String userId);
 
+    /**
+     * Starts the latest active version of a workflow, looked up by name, for a work item.
+     * The name is resolved through an in-memory index of active versions, so callers do not
+     * need to know the definition ID.
+     *
+     * @param workItemId   the work item ID
+     * @param workflowName the workflow definition name
+     * @param userId       the user starting the workflow
+     * @return the created workflow instance ID
+     * @throws IllegalArgumentException if the work item is not found or the workflow has no active version
+     */
+    UUID startWorkflowByName(UUID workItemId, String workflowName, String userId);
+
+    /**
+     * Starts workflows for many work items in chunks, each committed in its own transaction.
+     * The work items of a chunk are validated with one query, and the chunk's workflow instances,
+     * step instances and first-order tasks are written with batched inserts. If a chunk fails,
+     * its items are retried one at a time so a single bad item does not fail the others.
+     *
+     * @param requests       the (work item, workflow definition) pairs to start
+     * @param userId         the user starting the workflows
+     * @param resultConsumer receives the results of each chunk, in request order, once the chunk is committed
+     * @throws IllegalArgumentException if no requests are given
+     */
+    void startWorkflows(List<WorkflowStartRequest> requests, String userId,
+                        Consumer<List<WorkflowStartResult>> resultConsumer);
+
     /**
      * Handles an approval decision for a task.
      * Evaluates step completion rules, advances to next step if needed, and completes workflow when all steps are done.
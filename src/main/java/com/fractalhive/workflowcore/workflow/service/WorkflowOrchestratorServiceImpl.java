@@ -4,31 +4,47 @@ import com.fractalhive.workflowcore.approval.enums.DecisionType;
 import com.fractalhive.workflowcore.approval.enums.RuleEvaluationResult;
 import com.fractalhive.workflowcore.approval.service.ApprovalRuleEvaluator;
 import com.fractalhive.workflowcore.approval.service.ApprovalTaskStateMachineService;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
 import com.fractalhive.workflowcore.taskmanagement.dto.TaskResponse;
 import com.fractalhive.workflowcore.taskmanagement.service.TaskManagementService;
-import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionResponse;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowDefinitionGraph;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartRequest;
+import com.fractalhive.workflowcore.workflow.dto.WorkflowStartResult;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
 import com.fractalhive.workflowcore.workflow.enums.StepStatus;
 import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowDefinitionRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepDefinitionRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
 import com.fractalhive.workflowcore.workflow.statemachine.service.WorkflowInstanceStateMachineService;
 import com.fractalhive.workflowcore.workflow.statemachine.service.WorkflowStepInstanceStateMachineService;
+import com.fractalhive.workflowcore.workitem.entity.WorkItem;
+import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
 import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
 import com.fractalhive.workflowcore.workitem.statemachine.service.WorkItemStateMachineService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -40,7 +56,9 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
 
     private static final Logger logger = LoggerFactory.getLogger(WorkflowOrchestratorServiceImpl.class);
 
-    private final WorkflowDefinitionService workflowDefinitionService;
+    private final WorkflowDefinitionGraphLoader definitionGraphLoader;
+    private final ActiveWorkflowVersionIndex activeVersionIndex;
+    private final WorkflowDefinitionRepository workflowDefinitionRepository;
     private final WorkItemRepository workItemRepository;
     private final WorkflowInstanceRepository workflowInstanceRepository;
     private final WorkflowStepInstanceRepository stepInstanceRepository;
@@ -51,9 +69,13 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
     private final TaskManagementService taskManagementService;
     private final ApprovalTaskStateMachineService approvalTaskSM;
     private final ApprovalRuleEvaluator ruleEvaluator;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowCoreProperties.Batch batchSettings;
 
     public WorkflowOrchestratorServiceImpl(
-            WorkflowDefinitionService workflowDefinitionService,
+            WorkflowDefinitionGraphLoader definitionGraphLoader,
+            ActiveWorkflowVersionIndex activeVersionIndex,
+            WorkflowDefinitionRepository workflowDefinitionRepository,
             WorkItemRepository workItemRepository,
             WorkflowInstanceRepository workflowInstanceRepository,
             WorkflowStepInstanceRepository stepInstanceRepository,
@@ -63,8 +85,12 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
             WorkItemStateMachineService workItemSM,
             TaskManagementService taskManagementService,
             ApprovalTaskStateMachineService approvalTaskSM,
-            ApprovalRuleEvaluator ruleEvaluator) {
-        this.workflowDefinitionService = workflowDefinitionService;
+            ApprovalRuleEvaluator ruleEvaluator,
+            PlatformTransactionManager transactionManager,
+            WorkflowCoreProperties properties) {
+        this.definitionGraphLoader = definitionGraphLoader;
+        this.activeVersionIndex = activeVersionIndex;
+        this.workflowDefinitionRepository = workflowDefinitionRepository;
         this.workItemRepository = workItemRepository;
         this.workflowInstanceRepository = workflowInstanceRepository;
         this.stepInstanceRepository = stepInstanceRepository;
@@ -75,6 +101,8 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
         this.taskManagementService = taskManagementService;
         this.approvalTaskSM = approvalTaskSM;
         this.ruleEvaluator = ruleEvaluator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSettings = properties.getBatch();
     }
 
     @Override
@@ -86,10 +114,190 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
         workItemRepository.findById(workItemId)
                 .orElseThrow(() -> new IllegalArgumentException("Work item not found: " + workItemId));
 
-        // Get workflow definition
-        WorkflowDefinitionResponse workflowDef = workflowDefinitionService.getWorkflow(workflowDefinitionId);
-        if (workflowDef == null) {
-            throw new IllegalArgumentException("Workflow definition not found: " + workflowDefinitionId);
+        // Load the definition header and ordered steps (no admin DTO rendering)
+        WorkflowDefinitionGraph definition = definitionGraphLoader.load(workflowDefinitionId);
+
+        return startWorkflow(workItemId, definition, userId);
+    }
+
+    @Override
+    @Transactional
+    public UUID startWorkflowByName(UUID workItemId, String workflowName, String userId) {
+        logger.info("Starting workflow for work item: {} with active version of: {}", workItemId, workflowName);
+
+        // Verify work item exists
+        workItemRepository.findById(workItemId)
+                .orElseThrow(() -> new IllegalArgumentException("Work item not found: " + workItemId));
+
+        // Resolve through the index; if the cached version was deactivated or deleted elsewhere, reload once
+        WorkflowDefinitionGraph definition = definitionGraphLoader
+                .loadIfActive(activeVersionIndex.resolve(workflowName))
+                .orElseGet(() -> definitionGraphLoader.loadIfActive(activeVersionIndex.reload(workflowName))
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "No active workflow definition found: " + workflowName)));
+
+        return startWorkflow(workItemId, definition, userId);
+    }
+
+    @Override
+    public void startWorkflows(List<WorkflowStartRequest> requests, String userId,
+                               Consumer<List<WorkflowStartResult>> resultConsumer) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one workflow start request is required");
+        }
+        int chunkSize = Math.max(1, batchSettings.getChunkSize());
+        logger.info("Starting {} workflows in chunks of {}", requests.size(), chunkSize);
+
+        // Definitions are loaded once per batch; an empty value records a missing definition
+        Map<UUID, Optional<WorkflowDefinitionGraph>> definitions = new HashMap<>();
+        int started = 0;
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            List<WorkflowStartRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+            List<WorkflowStartResult> results;
+            try {
+                results = transactionTemplate.execute(status -> startChunk(chunk, userId, definitions));
+            } catch (RuntimeException e) {
+                logger.warn("Chunk of {} workflow starts failed ({}); retrying items one at a time",
+                        chunk.size(), e.getMessage());
+                results = chunk.stream()
+                        .map(request -> startIsolated(request, userId, definitions))
+                        .collect(Collectors.toList());
+            }
+            started += (int) results.stream().filter(WorkflowStartResult::isStarted).count();
+            resultConsumer.accept(results);
+        }
+
+        logger.info("Batch start finished: {} of {} workflows started", started, requests.size());
+    }
+
+    /**
+     * Starts one chunk of a batch inside the caller's transaction.
+     * Invalid items are reported as failed results; any exception fails the whole chunk.
+     */
+    private List<WorkflowStartResult> startChunk(List<WorkflowStartRequest> chunk, String userId,
+                                                 Map<UUID, Optional<WorkflowDefinitionGraph>> definitions) {
+        // Validate all work items of the chunk with one query
+        Set<UUID> workItemIds = chunk.stream()
+                .map(WorkflowStartRequest::getWorkItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, WorkItem> workItems = workItemRepository.findAllById(workItemIds).stream()
+                .collect(Collectors.toMap(WorkItem::getId, Function.identity()));
+
+        List<WorkflowStartResult> results = new ArrayList<>(chunk.size());
+        Set<UUID> seenWorkItemIds = new HashSet<>();
+        Set<UUID> definitionsToFlag = new HashSet<>();
+        List<UUID> firstOrderStepIds = new ArrayList<>();
+
+        for (WorkflowStartRequest request : chunk) {
+            String error = validateStartRequest(request, workItems, seenWorkItemIds, definitions);
+            if (error != null) {
+                results.add(startResult(request, null, error));
+                continue;
+            }
+            WorkflowDefinitionGraph definition = definitions.get(request.getWorkflowDefinitionId()).get();
+            if (!Boolean.TRUE.equals(definition.getHeader().getHasInstances())) {
+                definitionsToFlag.add(request.getWorkflowDefinitionId());
+            }
+            UUID instanceId = beginWorkflow(request.getWorkItemId(), definition, userId, firstOrderStepIds);
+            results.add(startResult(request, instanceId, null));
+        }
+
+        definitionsToFlag.forEach(workflowDefinitionRepository::markHasInstances);
+
+        // Resolve approvers and create first-order tasks for the whole chunk in one round
+        createFirstOrderTasks(firstOrderStepIds, userId);
+        return results;
+    }
+
+    /**
+     * Starts a single batch item in its own transaction, reporting any failure as a result.
+     */
+    private WorkflowStartResult startIsolated(WorkflowStartRequest request, String userId,
+                                              Map<UUID, Optional<WorkflowDefinitionGraph>> definitions) {
+        try {
+            return transactionTemplate.execute(status -> startChunk(List.of(request), userId, definitions)).get(0);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to start workflow for work item {}: {}", request.getWorkItemId(), e.getMessage());
+            return startResult(request, null, e.getMessage());
+        }
+    }
+
+    /**
+     * Checks one batch item against the preloaded work items and definitions.
+     *
+     * @return an error message, or null if the item can be started
+     */
+    private String validateStartRequest(WorkflowStartRequest request, Map<UUID, WorkItem> workItems,
+                                        Set<UUID> seenWorkItemIds,
+                                        Map<UUID, Optional<WorkflowDefinitionGraph>> definitions) {
+        if (request.getWorkItemId() == null || request.getWorkflowDefinitionId() == null) {
+            return "workItemId and workflowDefinitionId are required";
+        }
+        if (!seenWorkItemIds.add(request.getWorkItemId())) {
+            return "Duplicate work item in batch: " + request.getWorkItemId();
+        }
+        WorkItem workItem = workItems.get(request.getWorkItemId());
+        if (workItem == null) {
+            return "Work item not found: " + request.getWorkItemId();
+        }
+        if (workItem.getStatus() != WorkItemStatus.SUBMITTED) {
+            return "Work item must be SUBMITTED to start a workflow, but is " + workItem.getStatus();
+        }
+        Optional<WorkflowDefinitionGraph> definition = definitions.computeIfAbsent(
+                request.getWorkflowDefinitionId(), definitionGraphLoader::find);
+        if (definition.isEmpty()) {
+            return "Workflow definition not found: " + request.getWorkflowDefinitionId();
+        }
+        if (definition.get().getSteps().isEmpty()) {
+            return "Workflow definition has no steps: " + request.getWorkflowDefinitionId();
+        }
+        return null;
+    }
+
+    private WorkflowStartResult startResult(WorkflowStartRequest request, UUID instanceId, String error) {
+        return WorkflowStartResult.builder()
+                .workItemId(request.getWorkItemId())
+                .workflowDefinitionId(request.getWorkflowDefinitionId())
+                .workflowInstanceId(instanceId)
+                .started(instanceId != null)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Creates the workflow instance and step instances for a loaded definition,
+     * starts the first order of steps, and creates their approval tasks.
+     */
+    private UUID startWorkflow(UUID workItemId, WorkflowDefinitionGraph definition, String userId) {
+        // Flag the definition on its first start so admin edits need not query instances
+        if (!Boolean.TRUE.equals(definition.getHeader().getHasInstances())) {
+            workflowDefinitionRepository.markHasInstances(definition.getHeader().getId());
+        }
+
+        List<UUID> firstOrderStepIds = new ArrayList<>();
+        UUID instanceId = beginWorkflow(workItemId, definition, userId, firstOrderStepIds);
+        createFirstOrderTasks(firstOrderStepIds, userId);
+
+        logger.info("Workflow started successfully. Instance ID: {}", instanceId);
+        return instanceId;
+    }
+
+    /**
+     * Creates the workflow instance and its step instances, starts the instance and its order-1 steps,
+     * and moves the work item to IN_REVIEW. Approval tasks are left to the caller so that the tasks of
+     * many workflows can be created in one round.
+     *
+     * @param firstOrderStepIds receives the IDs of the started order-1 step instances
+     * @return the workflow instance ID
+     */
+    private UUID beginWorkflow(UUID workItemId, WorkflowDefinitionGraph definition, String userId,
+                               List<UUID> firstOrderStepIds) {
+        UUID workflowDefinitionId = definition.getHeader().getId();
+
+        if (definition.getSteps().isEmpty()) {
+            throw new IllegalStateException("Workflow definition has no steps: " + workflowDefinitionId);
         }
 
         Timestamp now = Timestamp.from(Instant.now());
@@ -97,7 +305,7 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
         // Create workflow instance
         WorkflowInstance instance = new WorkflowInstance();
         instance.setWorkflowId(workflowDefinitionId);
-        instance.setWorkflowVersion(workflowDef.getVersion());
+        instance.setWorkflowVersion(definition.getHeader().getVersion());
         instance.setWorkItemId(workItemId);
         instance.setStatus(WorkflowStatus.NOT_STARTED);
         instance.setCreatedAt(now);
@@ -106,25 +314,19 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
 
         logger.info("Created workflow instance: {}", instance.getId());
 
-        // Get all step definitions ordered by step order
-        List<WorkflowStepDefinition> stepDefs = stepDefinitionRepository
-                .findByWorkflowIdOrderByStepOrderAsc(workflowDefinitionId);
-
-        if (stepDefs.isEmpty()) {
-            throw new IllegalStateException("Workflow definition has no steps: " + workflowDefinitionId);
-        }
-
         // Create step instances for all steps
-        for (WorkflowStepDefinition stepDef : stepDefs) {
+        List<WorkflowStepInstance> stepInstances = new ArrayList<>();
+        for (WorkflowStepDefinition stepDef : definition.getSteps()) {
             WorkflowStepInstance stepInstance = new WorkflowStepInstance();
             stepInstance.setWorkflowInstanceId(instance.getId());
             stepInstance.setStepId(stepDef.getId());
             stepInstance.setStatus(StepStatus.NOT_STARTED);
             stepInstance.setCreatedAt(now);
             stepInstance.setCreatedBy(userId);
-            stepInstanceRepository.save(stepInstance);
-            logger.debug("Created step instance: {} for step: {}", stepInstance.getId(), stepDef.getStepName());
+            stepInstances.add(stepInstance);
         }
+        stepInstanceRepository.saveAll(stepInstances);
+        logger.debug("Created {} step instances for workflow instance: {}", stepInstances.size(), instance.getId());
 
         // Start the workflow instance (NOT_STARTED → IN_PROGRESS)
         workflowInstanceSM.start(instance.getId(), userId);
@@ -133,34 +335,30 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
         workItemSM.startReview(workItemId, userId);
 
         // Start all steps with stepOrder = 1 (parallel execution)
-        List<WorkflowStepInstance> steps = stepInstanceRepository
-                .findByWorkflowInstanceIdAndStatus(instance.getId(), StepStatus.NOT_STARTED);
-
-        if (!steps.isEmpty()) {
-            // Get step definitions to find steps with order = 1
-            List<WorkflowStepInstance> firstOrderSteps = new ArrayList<>();
-            for (WorkflowStepInstance step : steps) {
-                WorkflowStepDefinition stepDef = stepDefinitionRepository.findById(step.getStepId())
-                        .orElse(null);
-                if (stepDef != null && stepDef.getStepOrder() == 1) {
-                    firstOrderSteps.add(step);
-                }
-            }
+        List<WorkflowStepInstance> firstOrderSteps = stepInstances.stream()
+                .filter(step -> definition.getStepsById().get(step.getStepId()).getStepOrder() == 1)
+                .collect(Collectors.toList());
 
-            // Start all first-order steps in parallel
-            for (WorkflowStepInstance firstStep : firstOrderSteps) {
-                stepInstanceSM.start(firstStep.getId(), userId);
-                List<UUID> taskIds = taskManagementService.createTasksForStep(firstStep.getId(), userId);
-                logger.info("Started parallel step: {} (order: 1) and created {} tasks",
-                        firstStep.getId(), taskIds.size());
-            }
-            logger.info("Started {} parallel steps for order 1", firstOrderSteps.size());
+        for (WorkflowStepInstance firstStep : firstOrderSteps) {
+            stepInstanceSM.start(firstStep.getId(), userId);
+            firstOrderStepIds.add(firstStep.getId());
         }
-
-        logger.info("Workflow started successfully. Instance ID: {}", instance.getId());
         return instance.getId();
     }
 
+    /**
+     * Creates approval tasks for started order-1 steps, resolving all their approvers in one round.
+     */
+    private void createFirstOrderTasks(List<UUID> firstOrderStepIds, String userId) {
+        if (firstOrderStepIds.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<UUID>> taskIdsByStep = taskManagementService.createTasksForSteps(firstOrderStepIds, userId);
+        taskIdsByStep.forEach((stepId, taskIds) -> logger.info(
+                "Started parallel step: {} (order: 1) and created {} tasks", stepId, taskIds.size()));
+        logger.info("Started {} parallel steps for order 1", firstOrderStepIds.size());
+    }
+
     @Override
     @Transactional
     public void handleApprovalDecision(UUID taskId, String userId, DecisionType decision, String comments) {
@@ -203,14 +401,8 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
         WorkflowInstance instance = workflowInstanceRepository.findById(workflowInstanceId)
                 .orElseThrow(() -> new IllegalArgumentException("Workflow instance not found: " + workflowInstanceId));
 
-        // Get all active step instances
-        List<WorkflowStepInstance> activeSteps = stepInstanceRepository
-                .findByWorkflowInstanceIdAndStatus(workflowInstanceId, StepStatus.IN_PROGRESS);
-
-        // Cancel all pending tasks in active steps
-        for (WorkflowStepInstance step : activeSteps) {
-            approvalTaskSM.cancelAllForStep(step.getId());
-        }
+        // Cancel all open tasks of the instance in one statement
+        approvalTaskSM.cancelAllForWorkflowInstance(workflowInstanceId);
 
         // Cancel the workflow instance
         workflowInstanceSM.cancel(workflowInstanceId, userId);
@@ -298,10 +490,13 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
             // Start all next steps in parallel
             for (WorkflowStepInstance nextStep : nextSteps) {
                 stepInstanceSM.start(nextStep.getId(), userId);
-                List<UUID> taskIds = taskManagementService.createTasksForStep(nextStep.getId(), userId);
-                logger.info("Started next step: {} (order: {}) and created {} tasks",
-                        nextStep.getId(), nextOrder, taskIds.size());
             }
+
+            // Resolve approvers for the whole order group in one round
+            Map<UUID, List<UUID>> taskIdsByStep = taskManagementService.createTasksForSteps(
+                    nextSteps.stream().map(WorkflowStepInstance::getId).collect(Collectors.toList()), userId);
+            taskIdsByStep.forEach((stepId, taskIds) -> logger.info(
+                    "Started next step: {} (order: {}) and created {} tasks", stepId, nextOrder, taskIds.size()));
             logger.info("Started {} parallel steps for order {}", nextSteps.size(), nextOrder);
         }
     }
@@ -340,12 +535,8 @@ public class WorkflowOrchestratorServiceImpl implements WorkflowOrchestratorServ
                 .orElseThrow(() -> new IllegalStateException("Step instance not found: " + stepInstanceId));
         UUID workflowInstanceId = stepInstance.getWorkflowInstanceId();
 
-        // Cancel all pending tasks in remaining steps (future steps)
-        List<WorkflowStepInstance> remaining = stepInstanceRepository
-                .findByWorkflowInstanceIdAndStatus(workflowInstanceId, StepStatus.NOT_STARTED);
-        for (WorkflowStepInstance remainingStep : remaining) {
-            approvalTaskSM.cancelAllForStep(remainingStep.getId());
-        }
+        // Cancel all tasks still open in this or any other step of the instance
+        approvalTaskSM.cancelAllForWorkflowInstance(workflowInstanceId);
 
         // Fail the workflow instance
         workflowInstanceSM.fail(workflowInstanceId, userId, "Workflow rejected due to step rejection");
@@ -0,0 +1,200 @@
+package com.fractalhive.workflowcore.workflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fractalhive.workflowcore.workitem.dto.WorkflowProgressResponse;
+import com.fractalhive.workflowcore.workitem.service.WorkflowProgressAssembler;
+import com.fractalhive.workflowcore.workitem.service.WorkflowProgressEventBus;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowProgress;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowProgressRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@link WorkflowProgress} snapshot rows.
+ * Transition actions mark the affected workflow instance (or step instance) dirty; each dirty
+ * instance is recomputed once, just before the surrounding transaction commits, so a decision
+ * that completes a step and starts the next order still writes a single snapshot update.
+ * Outside a transaction the snapshot is refreshed immediately.
+ * <p>
+ * Every recomputed progress is published to the {@link WorkflowProgressEventBus} once the transaction that
+ * caused it has committed, which feeds the progress event stream without any extra queries.
+ */
+@Component
+public class WorkflowProgressTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowProgressTracker.class);
+
+    private final WorkflowProgressRepository workflowProgressRepository;
+    private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final WorkflowStepInstanceRepository stepInstanceRepository;
+    private final WorkflowProgressAssembler progressAssembler;
+    private final ObjectMapper objectMapper;
+    private final WorkflowProgressEventBus eventBus;
+
+    public WorkflowProgressTracker(WorkflowProgressRepository workflowProgressRepository,
+                                   WorkflowInstanceRepository workflowInstanceRepository,
+                                   WorkflowStepInstanceRepository stepInstanceRepository,
+                                   WorkflowProgressAssembler progressAssembler,
+                                   ObjectMapper objectMapper,
+                                   WorkflowProgressEventBus eventBus) {
+        this.workflowProgressRepository = workflowProgressRepository;
+        this.workflowInstanceRepository = workflowInstanceRepository;
+        this.stepInstanceRepository = stepInstanceRepository;
+        this.progressAssembler = progressAssembler;
+        this.objectMapper = objectMapper;
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Marks the progress of a workflow instance as changed in the current transaction.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     */
+    public void markDirty(UUID workflowInstanceId) {
+        if (workflowInstanceId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(workflowInstanceId);
+            return;
+        }
+        pending().workflowInstanceIds.add(workflowInstanceId);
+    }
+
+    /**
+     * Marks the progress of the workflow instance owning a step instance as changed in the current transaction.
+     *
+     * @param stepInstanceId the step instance ID
+     */
+    public void markStepDirty(UUID stepInstanceId) {
+        if (stepInstanceId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stepInstanceRepository.findById(stepInstanceId)
+                    .ifPresent(step -> refresh(step.getWorkflowInstanceId()));
+            return;
+        }
+        pending().stepInstanceIds.add(stepInstanceId);
+    }
+
+    /**
+     * Recomputes and stores the snapshot of a workflow instance immediately. The new progress is published
+     * after the current transaction commits, or right away outside a transaction.
+     *
+     * @param workflowInstanceId the workflow instance ID
+     * @return the stored snapshot, or empty if the instance does not exist
+     */
+    public Optional<WorkflowProgress> refresh(UUID workflowInstanceId) {
+        return workflowInstanceRepository.findById(workflowInstanceId).map(instance -> {
+            WorkflowProgressResponse response = progressAssembler.assemble(instance);
+            WorkflowProgress progress = store(instance, response);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                pending().changed.add(response);
+            } else {
+                eventBus.publish(response);
+            }
+            return progress;
+        });
+    }
+
+    private WorkflowProgress store(WorkflowInstance instance, WorkflowProgressResponse response) {
+        WorkflowProgressResponse.ProgressSummary summary = response.getProgress();
+
+        Timestamp now = Timestamp.from(Instant.now());
+        WorkflowProgress progress = workflowProgressRepository.findByWorkflowInstanceId(instance.getId())
+                .orElseGet(() -> {
+                    WorkflowProgress created = new WorkflowProgress();
+                    created.setWorkflowInstanceId(instance.getId());
+                    created.setWorkItemId(instance.getWorkItemId());
+                    created.setCreatedAt(instance.getCreatedAt() != null ? instance.getCreatedAt() : now);
+                    created.setCreatedBy(instance.getCreatedBy());
+                    return created;
+                });
+
+        progress.setWorkflowStatus(instance.getStatus());
+        progress.setCompletedSteps(summary.getCompletedSteps());
+        progress.setTotalSteps(summary.getTotalSteps());
+        progress.setCurrentStepOrder(summary.getCurrentStepOrder());
+        progress.setPercentage(summary.getPercentage());
+        progress.setPendingApprovers(String.join(",", summary.getPendingApprovers()));
+        progress.setSnapshot(serialize(response));
+        progress.setUpdatedAt(now);
+
+        return workflowProgressRepository.save(progress);
+    }
+
+    private String serialize(WorkflowProgressResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize workflow progress", e);
+        }
+    }
+
+    private DirtyInstances pending() {
+        DirtyInstances dirty = (DirtyInstances) TransactionSynchronizationManager.getResource(this);
+        if (dirty == null) {
+            dirty = new DirtyInstances();
+            TransactionSynchronizationManager.bindResource(this, dirty);
+            TransactionSynchronizationManager.registerSynchronization(dirty);
+        }
+        return dirty;
+    }
+
+    /**
+     * Instances changed in one transaction; flushed to snapshots before commit.
+     */
+    private class DirtyInstances implements TransactionSynchronization {
+
+        private final Set<UUID> workflowInstanceIds = new LinkedHashSet<>();
+        private final Set<UUID> stepInstanceIds = new LinkedHashSet<>();
+        private final List<WorkflowProgressResponse> changed = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (readOnly) {
+                return;
+            }
+            if (!stepInstanceIds.isEmpty()) {
+                workflowInstanceIds.addAll(stepInstanceRepository.findAllById(stepInstanceIds).stream()
+                        .map(WorkflowStepInstance::getWorkflowInstanceId)
+                        .collect(Collectors.toList()));
+            }
+            for (WorkflowInstance instance : workflowInstanceRepository.findAllById(workflowInstanceIds)) {
+                WorkflowProgressResponse response = progressAssembler.assemble(instance);
+                store(instance, response);
+                changed.add(response);
+            }
+            logger.debug("Refreshed progress snapshots for {} workflow instance(s)", workflowInstanceIds.size());
+        }
+
+        @Override
+        public void afterCommit() {
+            changed.forEach(eventBus::publish);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WorkflowProgressTracker.this);
+        }
+    }
+}
@@ -2,7 +2,7 @@ package com.fractalhive.workflowcore.workflow.statemachine.action;
 
 import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
 import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import com.fractalhive.workflowcore.workflow.statemachine.enums.WorkflowInstanceEvent;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
@@ -15,10 +15,10 @@ import java.time.Instant;
  */
 public class CancelWorkflowAction implements Action<WorkflowStatus, WorkflowInstanceEvent> {
 
-    private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public CancelWorkflowAction(WorkflowInstanceRepository workflowInstanceRepository) {
-        this.workflowInstanceRepository = workflowInstanceRepository;
+    public CancelWorkflowAction(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -31,6 +31,6 @@ public class CancelWorkflowAction implements Action<WorkflowStatus, WorkflowInst
         Timestamp now = Timestamp.from(Instant.now());
         workflowInstance.setCompletedAt(now);
         workflowInstance.setStatus(WorkflowStatus.CANCELLED);
-        workflowInstanceRepository.save(workflowInstance);
+        progressTracker.markDirty(workflowInstance.getId());
     }
 }
@@ -2,7 +2,7 @@ package com.fractalhive.workflowcore.workflow.statemachine.action;
 
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
 import com.fractalhive.workflowcore.workflow.enums.StepStatus;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import com.fractalhive.workflowcore.workflow.statemachine.enums.WorkflowStepInstanceEvent;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
@@ -15,10 +15,10 @@ import java.time.Instant;
  */
 public class FailStepAction implements Action<StepStatus, WorkflowStepInstanceEvent> {
 
-    private final WorkflowStepInstanceRepository workflowStepInstanceRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public FailStepAction(WorkflowStepInstanceRepository workflowStepInstanceRepository) {
-        this.workflowStepInstanceRepository = workflowStepInstanceRepository;
+    public FailStepAction(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -31,6 +31,6 @@ public class FailStepAction implements Action<StepStatus, WorkflowStepInstanceEv
         Timestamp now = Timestamp.from(Instant.now());
         stepInstance.setCompletedAt(now);
         stepInstance.setStatus(StepStatus.FAILED);
-        workflowStepInstanceRepository.save(stepInstance);
+        progressTracker.markDirty(stepInstance.getWorkflowInstanceId());
     }
 }
@@ -2,7 +2,7 @@ package com.fractalhive.workflowcore.workflow.statemachine.action;
 
 import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
 import com.fractalhive.workflowcore.workflow.enums.StepStatus;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import com.fractalhive.workflowcore.workflow.statemachine.enums.WorkflowStepInstanceEvent;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
@@ -15,10 +15,10 @@ import java.time.Instant;
  */
 public class StartStepAction implements Action<StepStatus, WorkflowStepInstanceEvent> {
 
-    private final WorkflowStepInstanceRepository workflowStepInstanceRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public StartStepAction(WorkflowStepInstanceRepository workflowStepInstanceRepository) {
-        this.workflowStepInstanceRepository = workflowStepInstanceRepository;
+    public StartStepAction(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -31,6 +31,6 @@ public class StartStepAction implements Action<StepStatus, WorkflowStepInstanceE
         Timestamp now = Timestamp.from(Instant.now());
         stepInstance.setStartedAt(now);
         stepInstance.setStatus(StepStatus.IN_PROGRESS);
-        workflowStepInstanceRepository.save(stepInstance);
+        progressTracker.markDirty(stepInstance.getWorkflowInstanceId());
     }
 }
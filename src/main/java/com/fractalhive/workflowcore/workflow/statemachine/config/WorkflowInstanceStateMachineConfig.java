@@ -1,7 +1,7 @@
 package com.fractalhive.workflowcore.workflow.statemachine.config;
 
 import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import com.fractalhive.workflowcore.workflow.statemachine.action.*;
 import com.fractalhive.workflowcore.workflow.statemachine.enums.WorkflowInstanceEvent;
 import org.springframework.context.annotation.Configuration;
@@ -20,10 +20,10 @@ import java.util.Set;
 @EnableStateMachineFactory(name = "workflowInstanceStateMachineFactory")
 public class WorkflowInstanceStateMachineConfig extends StateMachineConfigurerAdapter<WorkflowStatus, WorkflowInstanceEvent> {
 
-    private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public WorkflowInstanceStateMachineConfig(WorkflowInstanceRepository workflowInstanceRepository) {
-        this.workflowInstanceRepository = workflowInstanceRepository;
+    public WorkflowInstanceStateMachineConfig(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -36,10 +36,10 @@ public class WorkflowInstanceStateMachineConfig extends StateMachineConfigurerAd
 
     @Override
     public void configure(StateMachineTransitionConfigurer<WorkflowStatus, WorkflowInstanceEvent> transitions) throws Exception {
-        StartWorkflowAction startAction = new StartWorkflowAction(workflowInstanceRepository);
-        CompleteWorkflowAction completeAction = new CompleteWorkflowAction(workflowInstanceRepository);
-        FailWorkflowAction failAction = new FailWorkflowAction(workflowInstanceRepository);
-        CancelWorkflowAction cancelAction = new CancelWorkflowAction(workflowInstanceRepository);
+        StartWorkflowAction startAction = new StartWorkflowAction(progressTracker);
+        CompleteWorkflowAction completeAction = new CompleteWorkflowAction(progressTracker);
+        FailWorkflowAction failAction = new FailWorkflowAction(progressTracker);
+        CancelWorkflowAction cancelAction = new CancelWorkflowAction(progressTracker);
 
         transitions
             .withExternal()
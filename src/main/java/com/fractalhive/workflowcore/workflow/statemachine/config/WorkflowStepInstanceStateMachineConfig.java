@@ -1,7 +1,7 @@
 package com.fractalhive.workflowcore.workflow.statemachine.config;
 
 import com.fractalhive.workflowcore.workflow.enums.StepStatus;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import com.fractalhive.workflowcore.workflow.service.WorkflowProgressTracker;
 import com.fractalhive.workflowcore.workflow.statemachine.action.CompleteStepAction;
 import com.fractalhive.workflowcore.workflow.statemachine.action.FailStepAction;
 import com.fractalhive.workflowcore.workflow.statemachine.action.StartStepAction;
@@ -22,10 +22,10 @@ import java.util.Set;
 @EnableStateMachineFactory(name = "workflowStepInstanceStateMachineFactory")
 public class WorkflowStepInstanceStateMachineConfig extends StateMachineConfigurerAdapter<StepStatus, WorkflowStepInstanceEvent> {
 
-    private final WorkflowStepInstanceRepository workflowStepInstanceRepository;
+    private final WorkflowProgressTracker progressTracker;
 
-    public WorkflowStepInstanceStateMachineConfig(WorkflowStepInstanceRepository workflowStepInstanceRepository) {
-        this.workflowStepInstanceRepository = workflowStepInstanceRepository;
+    public WorkflowStepInstanceStateMachineConfig(WorkflowProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
     }
 
     @Override
@@ -38,9 +38,9 @@ public class WorkflowStepInstanceStateMachineConfig extends StateMachineConfigur
 
     @Override
     public void configure(StateMachineTransitionConfigurer<StepStatus, WorkflowStepInstanceEvent> transitions) throws Exception {
-        StartStepAction startAction = new StartStepAction(workflowStepInstanceRepository);
-        CompleteStepAction completeAction = new CompleteStepAction(workflowStepInstanceRepository);
-        FailStepAction failAction = new FailStepAction(workflowStepInstanceRepository);
+        StartStepAction startAction = new StartStepAction(progressTracker);
+        CompleteStepAction completeAction = new CompleteStepAction(progressTracker);
+        FailStepAction failAction = new FailStepAction(progressTracker);
 
         transitions
             .withExternal()
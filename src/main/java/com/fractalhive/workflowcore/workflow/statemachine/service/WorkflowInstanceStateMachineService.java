@@ -121,8 +121,9 @@ public class WorkflowInstanceStateMachineService {
             throw new IllegalStateException("State machine state is null after transition");
         }
         WorkflowStatus currentState = stateMachine.getState().getId();
+        // The entity is managed by the surrounding transaction: the action's changes and the status
+        // are written by one dirty-checked UPDATE at flush, so there is no explicit save here
         workflowInstance.setStatus(currentState);
-        workflowInstanceRepository.save(workflowInstance);
     }
 
     private WorkflowInstance getWorkflowInstanceOrThrow(UUID workflowInstanceId) {
@@ -107,8 +107,9 @@ public class WorkflowStepInstanceStateMachineService {
             throw new IllegalStateException("State machine state is null after transition");
         }
         StepStatus currentState = stateMachine.getState().getId();
+        // The entity is managed by the surrounding transaction: the action's changes and the status
+        // are written by one dirty-checked UPDATE at flush, so there is no explicit save here
         stepInstance.setStatus(currentState);
-        workflowStepInstanceRepository.save(stepInstance);
     }
 
     private WorkflowStepInstance getStepInstanceOrThrow(UUID stepInstanceId) {
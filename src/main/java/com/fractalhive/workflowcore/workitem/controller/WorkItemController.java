@@ -1,12 +1,16 @@
 package com.fractalhive.workflowcore.workitem.controller;
 
+import com.fractalhive.workflowcore.workitem.dto.WorkItemBulkSubmitRequest;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemBulkSubmitResult;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemCreateRequest;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemPageResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemSubmitRequest;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemVersionResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkflowProgressResponse;
 import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
 import com.fractalhive.workflowcore.workitem.service.WorkItemService;
+import com.fractalhive.workflowcore.workitem.service.WorkflowProgressStreamService;
 import com.fractalhive.workflowcore.workitem.statemachine.service.WorkItemStateMachineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,8 +25,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -35,26 +42,33 @@ import java.util.UUID;
 @Tag(name = "Work Items", description = "APIs for managing work items, their versions, workflow progress, and archiving")
 public class WorkItemController {
 
+    private static final int MAX_BULK_SUBMIT_SIZE = 50_000;
+
     private final WorkItemService workItemService;
     private final WorkItemStateMachineService workItemStateMachineService;
+    private final WorkflowProgressStreamService progressStreamService;
 
     public WorkItemController(WorkItemService workItemService,
-                              WorkItemStateMachineService workItemStateMachineService) {
+                              WorkItemStateMachineService workItemStateMachineService,
+                              WorkflowProgressStreamService progressStreamService) {
         this.workItemService = workItemService;
         this.workItemStateMachineService = workItemStateMachineService;
+        this.progressStreamService = progressStreamService;
     }
 
     /**
      * Lists all work items, optionally filtered by status and/or type.
      *
-     * @param status optional status filter
-     * @param type   optional type filter
+     * @param status          optional status filter
+     * @param type            optional type filter
+     * @param includeVersions whether to include each work item's full version history
      * @return list of work items
      */
     @GetMapping
     @Operation(
             summary = "List work items",
-            description = "Retrieves all work items, optionally filtered by status and/or type. Results are ordered by creation date (newest first)"
+            description = "Retrieves all work items, optionally filtered by status and/or type. Results are ordered by creation date (newest first). "
+                    + "Prefer /page or /scroll for large tables"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved work items",
@@ -64,11 +78,82 @@ public class WorkItemController {
             @Parameter(description = "Optional status filter", example = "DRAFT")
             @RequestParam(required = false) WorkItemStatus status,
             @Parameter(description = "Optional type filter", example = "contract")
-            @RequestParam(required = false) String type) {
-        List<WorkItemResponse> workItems = workItemService.listWorkItems(status, type);
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Include the full version history of each work item", example = "true")
+            @RequestParam(defaultValue = "true") boolean includeVersions) {
+        List<WorkItemResponse> workItems = workItemService.listWorkItems(status, type, includeVersions);
         return ResponseEntity.ok(workItems);
     }
 
+    /**
+     * Lists one offset page of work items.
+     *
+     * @param status          optional status filter
+     * @param type            optional type filter
+     * @param page            zero-based page index
+     * @param size            page size
+     * @param includeVersions whether to include each work item's full version history
+     * @return the page of work items
+     */
+    @GetMapping("/page")
+    @Operation(
+            summary = "List work items (offset pagination)",
+            description = "Retrieves one page of work items, newest first, with total element and page counts. Page size is capped at 200"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(schema = @Schema(implementation = WorkItemPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page or size")
+    })
+    public ResponseEntity<WorkItemPageResponse> listWorkItemsPage(
+            @Parameter(description = "Optional status filter", example = "DRAFT")
+            @RequestParam(required = false) WorkItemStatus status,
+            @Parameter(description = "Optional type filter", example = "contract")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Zero-based page index", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Include the full version history of each work item", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeVersions) {
+        return ResponseEntity.ok(workItemService.listWorkItemsPage(status, type, page, size, includeVersions));
+    }
+
+    /**
+     * Lists one keyset page of work items.
+     *
+     * @param status          optional status filter
+     * @param type            optional type filter
+     * @param cursor          cursor from the previous page
+     * @param size            page size
+     * @param includeVersions whether to include each work item's full version history
+     * @return the page of work items
+     */
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "List work items (keyset pagination)",
+            description = "Retrieves work items, newest first, continuing after the given cursor. Does not count the table, "
+                    + "so deep pages cost the same as the first. Pass nextCursor from the response to fetch the next page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(schema = @Schema(implementation = WorkItemPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    })
+    public ResponseEntity<WorkItemPageResponse> scrollWorkItems(
+            @Parameter(description = "Optional status filter", example = "DRAFT")
+            @RequestParam(required = false) WorkItemStatus status,
+            @Parameter(description = "Optional type filter", example = "contract")
+            @RequestParam(required = false) String type,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Include the full version history of each work item", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeVersions) {
+        return ResponseEntity.ok(workItemService.scrollWorkItems(status, type, cursor, size, includeVersions));
+    }
+
     /**
      * Creates a new work item.
      *
@@ -149,6 +234,37 @@ public class WorkItemController {
         return ResponseEntity.ok(WorkItemSubmitResponse.builder().versionId(versionId).build());
     }
 
+    /**
+     * Creates and submits many work items in one request.
+     *
+     * @param request     the work items to create and submit
+     * @param submittedBy the user creating and submitting the work items
+     * @return one result per item, in request order
+     */
+    @PostMapping("/bulk-submit")
+    @Operation(
+            summary = "Create and submit work items in bulk",
+            description = "Creates up to " + MAX_BULK_SUBMIT_SIZE + " work items with their first version and submits them "
+                    + "(DRAFT → SUBMITTED). Items are processed in chunks that commit or roll back atomically; "
+                    + "the result of each item reports its work item and version IDs or the error of its chunk"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item results",
+                    content = @Content(schema = @Schema(implementation = WorkItemBulkSubmitResult.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized request")
+    })
+    public ResponseEntity<List<WorkItemBulkSubmitResult>> bulkSubmitWorkItems(
+            @Parameter(description = "Work items to create and submit")
+            @RequestBody WorkItemBulkSubmitRequest request,
+            @Parameter(description = "User ID creating and submitting the work items", required = true, example = "importer")
+            @RequestParam String submittedBy) {
+        if (request.getItems() != null && request.getItems().size() > MAX_BULK_SUBMIT_SIZE) {
+            throw new IllegalArgumentException(
+                    "Bulk size " + request.getItems().size() + " exceeds the maximum of " + MAX_BULK_SUBMIT_SIZE);
+        }
+        return ResponseEntity.ok(workItemService.createAndSubmitWorkItems(request.getItems(), submittedBy));
+    }
+
     /**
      * Gets all versions for a work item.
      *
@@ -175,25 +291,64 @@ public class WorkItemController {
     /**
      * Gets workflow progress for a work item.
      * Shows which step is currently in progress, completed steps, and overall progress.
+     * Answers {@code If-None-Match} with 304 after a lookup of the progress snapshot's version,
+     * without reading the snapshot.
      *
      * @param workItemId the work item ID
-     * @return workflow progress information
+     * @param webRequest the current request, for conditional request handling
+     * @return workflow progress information, or 304 if the client's copy is current
      */
     @GetMapping("/{workItemId}/workflow-progress")
     @Operation(
             summary = "Get workflow progress",
-            description = "Retrieves detailed workflow progress information including current step, completed steps, and overall progress"
+            description = "Retrieves detailed workflow progress information including current step, completed steps, and overall progress. "
+                    + "Returns an ETag; send it back as If-None-Match to get 304 Not Modified while the progress is unchanged"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved progress",
                     content = @Content(schema = @Schema(implementation = WorkflowProgressResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Progress unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Work item not found")
     })
     public ResponseEntity<WorkflowProgressResponse> getWorkflowProgress(
             @Parameter(description = "The work item ID", required = true)
-            @PathVariable UUID workItemId) {
+            @PathVariable UUID workItemId,
+            WebRequest webRequest) {
+        // Progress computed live, for instances without a snapshot, carries no ETag
+        String eTag = workItemService.getWorkflowProgressETag(workItemId);
+        if (eTag == null) {
+            return ResponseEntity.ok(workItemService.getWorkflowProgress(workItemId));
+        }
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         WorkflowProgressResponse progress = workItemService.getWorkflowProgress(workItemId);
-        return ResponseEntity.ok(progress);
+        return ResponseEntity.ok().eTag(eTag).body(progress);
+    }
+
+    /**
+     * Streams workflow progress for a work item as server-sent events.
+     * The current progress is sent first, then a new {@code progress} event whenever it changes.
+     *
+     * @param workItemId the work item ID
+     * @return the event stream
+     */
+    @GetMapping(value = "/{workItemId}/workflow-progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream workflow progress",
+            description = "Opens a server-sent event stream that sends the current workflow progress and then a "
+                    + "'progress' event each time a step, task or workflow transition changes it. Replaces polling "
+                    + "the workflow-progress endpoint"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = WorkflowProgressResponse.class)))
+    })
+    public SseEmitter streamWorkflowProgress(
+            @Parameter(description = "The work item ID", required = true)
+            @PathVariable UUID workItemId) {
+        return progressStreamService.open(workItemId);
     }
 
     /**
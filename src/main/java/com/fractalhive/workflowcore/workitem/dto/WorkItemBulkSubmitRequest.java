@@ -0,0 +1,40 @@
+package com.fractalhive.workflowcore.workitem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating and submitting many work items at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemBulkSubmitRequest {
+
+    private List<Item> items;
+
+    /**
+     * One work item to create and submit.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /**
+         * Type of the work item (e.g., "contract", "purchase_request", etc.).
+         */
+        private String type;
+
+        /**
+         * Content reference of the first version.
+         */
+        private String contentRef;
+    }
+}
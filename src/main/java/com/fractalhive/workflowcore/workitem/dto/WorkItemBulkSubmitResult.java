@@ -0,0 +1,40 @@
+package com.fractalhive.workflowcore.workitem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of creating and submitting one work item of a bulk request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemBulkSubmitResult {
+
+    /**
+     * Position of the item in the request.
+     */
+    private int index;
+
+    /**
+     * The created work item ID, or null if the item was not created.
+     */
+    private UUID workItemId;
+
+    /**
+     * The ID of the first version, or null if the item was not created.
+     */
+    private UUID versionId;
+
+    private boolean submitted;
+
+    /**
+     * Why the item was not created, or null if it was created and submitted.
+     */
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.fractalhive.workflowcore.workitem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a page of work items.
+ * Offset pages fill {@code page}, {@code totalElements} and {@code totalPages};
+ * keyset pages fill {@code nextCursor} instead and skip the count query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemPageResponse {
+
+    private List<WorkItemResponse> items;
+    private Integer page;
+    private int size;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean hasNext;
+
+    /**
+     * Opaque cursor to pass as {@code cursor} to fetch the next keyset page; null on the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,77 @@
+package com.fractalhive.workflowcore.workitem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Throughput of one run of the work item retention job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemRetentionReport {
+
+    private Instant startedAt;
+
+    private Duration elapsed;
+
+    /**
+     * Number of work items moved from APPROVED or REJECTED to ARCHIVED.
+     */
+    private long archived;
+
+    private int archiveChunks;
+
+    private Duration archiveElapsed;
+
+    /**
+     * Number of ARCHIVED work items deleted, not counting the rows deleted below them.
+     */
+    private long purged;
+
+    /**
+     * Number of rows deleted from all tables while purging, including the work items themselves.
+     */
+    private long purgedRows;
+
+    private int purgeChunks;
+
+    private Duration purgeElapsed;
+
+    /**
+     * Longest transaction of the run, which bounds how long any row lock was held.
+     */
+    private Duration longestChunk;
+
+    /**
+     * Chunk size the run ended with, after adapting to the target lock hold time.
+     */
+    private int finalChunkSize;
+
+    /**
+     * Work items archived per second of archive time.
+     */
+    public double getArchivedPerSecond() {
+        return perSecond(archived, archiveElapsed);
+    }
+
+    /**
+     * Work items purged per second of purge time.
+     */
+    public double getPurgedPerSecond() {
+        return perSecond(purged, purgeElapsed);
+    }
+
+    private static double perSecond(long count, Duration elapsed) {
+        if (elapsed == null || elapsed.isZero() || elapsed.isNegative()) {
+            return 0.0;
+        }
+        return count * 1000.0 / elapsed.toMillis();
+    }
+}
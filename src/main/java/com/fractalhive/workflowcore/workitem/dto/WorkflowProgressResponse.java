@@ -75,5 +75,15 @@ public class WorkflowProgressResponse {
         private int completedSteps;
         private int totalSteps;
         private int percentage;
+
+        /**
+         * Lowest step order currently in progress, or null if no step is running.
+         */
+        private Integer currentStepOrder;
+
+        /**
+         * Distinct IDs of approvers with a PENDING task.
+         */
+        private List<String> pendingApprovers;
     }
 }
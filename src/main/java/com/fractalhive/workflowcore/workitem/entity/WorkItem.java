@@ -7,6 +7,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -14,7 +16,11 @@ import java.util.List;
  * Work items have versions and lifecycle status.
  */
 @Entity
-@Table(name = "work_item")
+@Table(name = "work_item", indexes = {
+        @Index(name = "idx_work_item_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_work_item_status_created_at", columnList = "status, created_at DESC"),
+        @Index(name = "idx_work_item_status_updated_at", columnList = "status, updated_at")
+})
 @Getter
 @Setter
 public class WorkItem extends BaseEntity {
@@ -43,4 +49,14 @@ public class WorkItem extends BaseEntity {
      */
     @OneToMany(mappedBy = "workItem", fetch = FetchType.LAZY)
     private List<WorkflowInstance> workflowInstances;
+
+    /**
+     * Keeps {@code updated_at} current on every change, status transitions included, so retention can
+     * measure how long a work item has been in its final status.
+     */
+    @PrePersist
+    @PreUpdate
+    void stampUpdatedAt() {
+        setUpdatedAt(Timestamp.from(Instant.now()));
+    }
 }
@@ -2,9 +2,16 @@ package com.fractalhive.workflowcore.workitem.repository;
 
 import com.fractalhive.workflowcore.workitem.entity.WorkItem;
 import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,7 +19,7 @@ import java.util.UUID;
  * Repository for WorkItem entities.
  */
 @Repository
-public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
+public interface WorkItemRepository extends JpaRepository<WorkItem, UUID>, JpaSpecificationExecutor<WorkItem> {
 
     /**
      * Find work items by status.
@@ -38,4 +45,53 @@ public interface WorkItemRepository extends JpaRepository<WorkItem, UUID> {
      * @return list of work items
      */
     List<WorkItem> findByStatusAndType(WorkItemStatus status, String type);
+
+    /**
+     * Find the IDs of work items in one of the given statuses last updated before a cutoff, least recently
+     * updated first. Since {@code updated_at} is set on every status change, this selects work items that
+     * have been in their current status since before the cutoff. Served by the {@code (status, updated_at)}
+     * index.
+     *
+     * @param statuses      the work item statuses
+     * @param updatedBefore only work items last updated before this time
+     * @param pageable      chunk size
+     * @return work item IDs, least recently updated first
+     */
+    @Query("SELECT w.id FROM WorkItem w WHERE w.status IN :statuses AND w.updatedAt < :updatedBefore "
+            + "ORDER BY w.updatedAt ASC")
+    List<UUID> findIdsByStatusInAndUpdatedAtBefore(@Param("statuses") Collection<WorkItemStatus> statuses,
+                                                   @Param("updatedBefore") Timestamp updatedBefore,
+                                                   Pageable pageable);
+
+    /**
+     * Moves every listed work item whose status is in {@code fromStatuses} to {@code toStatus} in a single
+     * guarded UPDATE, bypassing the state machine.
+     *
+     * @param ids          the work item IDs
+     * @param fromStatuses the statuses a work item must currently have to be updated
+     * @param toStatus     the target status
+     * @param updatedAt    the modification timestamp to record
+     * @param updatedBy    the user recorded as having made the change
+     * @return number of work items updated
+     */
+    @Modifying
+    @Query("UPDATE WorkItem w SET w.status = :toStatus, w.updatedAt = :updatedAt, w.updatedBy = :updatedBy "
+            + "WHERE w.id IN :ids AND w.status IN :fromStatuses")
+    int updateStatus(@Param("ids") Collection<UUID> ids,
+                     @Param("fromStatuses") Collection<WorkItemStatus> fromStatuses,
+                     @Param("toStatus") WorkItemStatus toStatus,
+                     @Param("updatedAt") Timestamp updatedAt,
+                     @Param("updatedBy") String updatedBy);
+
+    /**
+     * Delete the listed work items that have the given status. Used when purging work items; their
+     * versions, workflow instances and everything below them must have been deleted first.
+     *
+     * @param ids    the work item IDs
+     * @param status the status a work item must have to be deleted
+     * @return number of work items deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkItem w WHERE w.id IN :ids AND w.status = :status")
+    int deleteByIdsAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") WorkItemStatus status);
 }
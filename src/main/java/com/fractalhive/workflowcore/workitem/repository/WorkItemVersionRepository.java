@@ -2,8 +2,12 @@ package com.fractalhive.workflowcore.workitem.repository;
 
 import com.fractalhive.workflowcore.workitem.entity.WorkItemVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,4 +42,38 @@ public interface WorkItemVersionRepository extends JpaRepository<WorkItemVersion
      * @return optional work item version
      */
     Optional<WorkItemVersion> findFirstByWorkItemIdOrderByVersionDesc(UUID workItemId);
+
+    /**
+     * Find the latest version of each of the given work items in one query.
+     * Uses a ROW_NUMBER() window over (work_item_id, version) so the unique
+     * constraint index serves both the partitioning and the ordering.
+     *
+     * @param workItemIds the work item IDs
+     * @return the latest version per work item (work items without versions are absent)
+     */
+    @Query(value = "SELECT v.* FROM work_item_version v WHERE v.id IN ("
+            + "SELECT r.id FROM (SELECT wiv.id, ROW_NUMBER() OVER "
+            + "(PARTITION BY wiv.work_item_id ORDER BY wiv.version DESC) AS rn "
+            + "FROM work_item_version wiv WHERE wiv.work_item_id IN (:workItemIds)) r "
+            + "WHERE r.rn = 1)",
+            nativeQuery = true)
+    List<WorkItemVersion> findLatestByWorkItemIdIn(@Param("workItemIds") Collection<UUID> workItemIds);
+
+    /**
+     * Find all versions of the given work items in one query, ordered by version descending.
+     *
+     * @param workItemIds the work item IDs
+     * @return list of versions
+     */
+    List<WorkItemVersion> findByWorkItemIdInOrderByVersionDesc(Collection<UUID> workItemIds);
+
+    /**
+     * Delete the versions of work items in one statement. Used when purging work items.
+     *
+     * @param workItemIds the work item IDs
+     * @return number of versions deleted
+     */
+    @Modifying
+    @Query("DELETE FROM WorkItemVersion v WHERE v.workItemId IN :workItemIds")
+    int deleteByWorkItemIds(@Param("workItemIds") Collection<UUID> workItemIds);
 }
@@ -0,0 +1,53 @@
+package com.fractalhive.workflowcore.workitem.service;
+
+import java.time.Duration;
+
+/**
+ * Chunk size that follows a target transaction duration. After each chunk the size is scaled by the ratio
+ * of the target to the measured duration, at most halving or doubling per step so that a single slow or fast
+ * chunk (a checkpoint, a cold cache) does not swing it too far.
+ */
+class AdaptiveChunkSize {
+
+    private static final double MAX_GROWTH = 2.0;
+    private static final double MAX_SHRINK = 0.5;
+
+    private final long targetNanos;
+    private final int min;
+    private final int max;
+    private int current;
+
+    AdaptiveChunkSize(Duration target, int initial, int min, int max) {
+        this.targetNanos = Math.max(1, target.toNanos());
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.current = clamp(initial);
+    }
+
+    int current() {
+        return current;
+    }
+
+    /**
+     * Adjusts the size after a chunk. Partial chunks only shrink it: their duration says little about how
+     * long a full chunk would take.
+     *
+     * @param rows    number of rows the chunk processed
+     * @param elapsed how long the chunk's transaction took
+     */
+    void record(int rows, Duration elapsed) {
+        if (rows <= 0) {
+            return;
+        }
+        double factor = (double) targetNanos / Math.max(1, elapsed.toNanos());
+        factor = Math.max(MAX_SHRINK, Math.min(MAX_GROWTH, factor));
+        if (rows < current && factor > 1.0) {
+            return;
+        }
+        current = clamp((int) Math.round(current * factor));
+    }
+
+    private int clamp(int size) {
+        return Math.max(min, Math.min(max, size));
+    }
+}
@@ -0,0 +1,293 @@
+package com.fractalhive.workflowcore.workitem.service;
+
+import com.fractalhive.workflowcore.approval.repository.ApprovalCommentHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalCommentRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalDecisionRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.approval.service.ApprovalTaskCountCache;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowProgressRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceHistoryRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemRetentionReport;
+import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
+import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
+import com.fractalhive.workflowcore.workitem.repository.WorkItemVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Archives and purges old work items in bulk.
+ * <p>
+ * The archive stage moves APPROVED and REJECTED work items last updated before {@code archive-after} to
+ * ARCHIVED; the purge stage, when enabled, deletes ARCHIVED work items last updated before {@code purge-after}
+ * together with everything recorded for them. Age is measured from {@code updated_at}, which is set whenever a
+ * work item changes status, so a work item is kept for the full period after reaching its final status. Both stages work in chunks, one transaction per chunk, and each chunk is a
+ * handful of set-based statements regardless of its size. The archive UPDATE is guarded by the source
+ * statuses, so it applies exactly the ARCHIVE transition of the work item state machine without running it
+ * per item.
+ * <p>
+ * The chunk size adapts to {@code target-lock-hold}: each chunk's transaction is timed and the next chunk is
+ * scaled towards the target, so the job stays fast on an idle database and backs off under load instead of
+ * holding row locks that block users. Every run returns and logs a {@link WorkItemRetentionReport}.
+ * <p>
+ * When {@code workflow-core.retention.enabled} is set, the job runs on a private single-thread scheduler,
+ * which is not exposed as a bean so that it does not interfere with the host application's scheduling.
+ */
+@Component
+public class WorkItemRetentionJob implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkItemRetentionJob.class);
+
+    private static final List<WorkItemStatus> ARCHIVABLE_STATUSES =
+            List.of(WorkItemStatus.APPROVED, WorkItemStatus.REJECTED);
+
+    private static final String SYSTEM_USER = "system";
+
+    private final WorkItemRepository workItemRepository;
+    private final WorkItemVersionRepository workItemVersionRepository;
+    private final WorkflowInstanceRepository workflowInstanceRepository;
+    private final WorkflowProgressRepository workflowProgressRepository;
+    private final WorkflowStepInstanceRepository stepInstanceRepository;
+    private final WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository;
+    private final ApprovalTaskRepository approvalTaskRepository;
+    private final ApprovalTaskHistoryRepository approvalTaskHistoryRepository;
+    private final ApprovalDecisionRepository approvalDecisionRepository;
+    private final ApprovalDecisionHistoryRepository approvalDecisionHistoryRepository;
+    private final ApprovalCommentRepository approvalCommentRepository;
+    private final ApprovalCommentHistoryRepository approvalCommentHistoryRepository;
+    private final ApprovalTaskCountCache taskCountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowCoreProperties.Retention settings;
+    private ScheduledExecutorService scheduler;
+
+    public WorkItemRetentionJob(WorkItemRepository workItemRepository,
+                                WorkItemVersionRepository workItemVersionRepository,
+                                WorkflowInstanceRepository workflowInstanceRepository,
+                                WorkflowProgressRepository workflowProgressRepository,
+                                WorkflowStepInstanceRepository stepInstanceRepository,
+                                WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository,
+                                ApprovalTaskRepository approvalTaskRepository,
+                                ApprovalTaskHistoryRepository approvalTaskHistoryRepository,
+                                ApprovalDecisionRepository approvalDecisionRepository,
+                                ApprovalDecisionHistoryRepository approvalDecisionHistoryRepository,
+                                ApprovalCommentRepository approvalCommentRepository,
+                                ApprovalCommentHistoryRepository approvalCommentHistoryRepository,
+                                ApprovalTaskCountCache taskCountCache,
+                                PlatformTransactionManager transactionManager,
+                                WorkflowCoreProperties properties) {
+        this.workItemRepository = workItemRepository;
+        this.workItemVersionRepository = workItemVersionRepository;
+        this.workflowInstanceRepository = workflowInstanceRepository;
+        this.workflowProgressRepository = workflowProgressRepository;
+        this.stepInstanceRepository = stepInstanceRepository;
+        this.stepInstanceHistoryRepository = stepInstanceHistoryRepository;
+        this.approvalTaskRepository = approvalTaskRepository;
+        this.approvalTaskHistoryRepository = approvalTaskHistoryRepository;
+        this.approvalDecisionRepository = approvalDecisionRepository;
+        this.approvalDecisionHistoryRepository = approvalDecisionHistoryRepository;
+        this.approvalCommentRepository = approvalCommentRepository;
+        this.approvalCommentHistoryRepository = approvalCommentHistoryRepository;
+        this.taskCountCache = taskCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = properties.getRetention();
+    }
+
+    /**
+     * Runs the archive stage and, if enabled, the purge stage with the configured ages.
+     *
+     * @return throughput of the run
+     */
+    public WorkItemRetentionReport run() {
+        Instant now = Instant.now();
+        Instant purgeBefore = settings.isPurgeEnabled() ? now.minus(settings.getPurgeAfter()) : null;
+        return run(now.minus(settings.getArchiveAfter()), purgeBefore);
+    }
+
+    /**
+     * Archives APPROVED and REJECTED work items last updated before {@code archiveBefore}, then deletes
+     * ARCHIVED work items last updated before {@code purgeBefore}. A failing chunk is rolled back and stops the run; chunks
+     * committed before it stay applied.
+     *
+     * @param archiveBefore only work items last updated before this time are archived
+     * @param purgeBefore   only work items last updated before this time are purged; null skips the purge stage
+     * @return throughput of the run
+     */
+    public WorkItemRetentionReport run(Instant archiveBefore, Instant purgeBefore) {
+        AdaptiveChunkSize chunkSize = new AdaptiveChunkSize(settings.getTargetLockHold(),
+                settings.getInitialChunkSize(), settings.getMinChunkSize(), settings.getMaxChunkSize());
+        Instant startedAt = Instant.now();
+        long runStart = System.nanoTime();
+
+        Timestamp archiveCutoff = Timestamp.from(archiveBefore);
+        StageResult archive = runStage(chunkSize, size -> archiveChunk(archiveCutoff, size));
+        StageResult purge = StageResult.EMPTY;
+        if (purgeBefore != null) {
+            Timestamp purgeCutoff = Timestamp.from(purgeBefore);
+            purge = runStage(chunkSize, size -> purgeChunk(purgeCutoff, size));
+        }
+
+        WorkItemRetentionReport report = WorkItemRetentionReport.builder()
+                .startedAt(startedAt)
+                .elapsed(Duration.ofNanos(System.nanoTime() - runStart))
+                .archived(archive.affected())
+                .archiveChunks(archive.chunks())
+                .archiveElapsed(archive.elapsed())
+                .purged(purge.affected())
+                .purgedRows(purge.rows())
+                .purgeChunks(purge.chunks())
+                .purgeElapsed(purge.elapsed())
+                .longestChunk(max(archive.longest(), purge.longest()))
+                .finalChunkSize(chunkSize.current())
+                .build();
+        if (report.getArchived() > 0 || report.getPurged() > 0) {
+            logger.info("Work item retention: archived {} in {} chunks ({}/s), purged {} ({} rows) in {} chunks ({}/s), "
+                            + "longest chunk {} ms, chunk size now {}",
+                    report.getArchived(), report.getArchiveChunks(), Math.round(report.getArchivedPerSecond()),
+                    report.getPurged(), report.getPurgedRows(), report.getPurgeChunks(),
+                    Math.round(report.getPurgedPerSecond()),
+                    report.getLongestChunk().toMillis(), report.getFinalChunkSize());
+        }
+        return report;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSchedule() {
+        if (!settings.isEnabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-work-item-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = settings.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runScheduled, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Work item retention scheduled every {} (archive after {}, purge {})", settings.getInterval(),
+                settings.getArchiveAfter(), settings.isPurgeEnabled() ? "after " + settings.getPurgeAfter() : "off");
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void runScheduled() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the failed chunk is retried on the next run
+            logger.warn("Work item retention failed", e);
+        }
+    }
+
+    /**
+     * Runs chunks, one transaction each, until a chunk comes back short. Each chunk's transaction is timed
+     * to adapt the size of the next one.
+     */
+    private StageResult runStage(AdaptiveChunkSize chunkSize, IntFunction<ChunkResult> chunk) {
+        long stageStart = System.nanoTime();
+        long affected = 0;
+        long rows = 0;
+        int chunks = 0;
+        Duration longest = Duration.ZERO;
+        while (true) {
+            int size = chunkSize.current();
+            long chunkStart = System.nanoTime();
+            ChunkResult result = transactionTemplate.execute(status -> chunk.apply(size));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - chunkStart);
+            if (result == null || result.selected() == 0) {
+                break;
+            }
+            affected += result.affected();
+            rows += result.rows();
+            chunks++;
+            longest = max(longest, elapsed);
+            chunkSize.record(result.selected(), elapsed);
+            if (result.selected() < size) {
+                break;
+            }
+        }
+        return new StageResult(affected, rows, chunks, Duration.ofNanos(System.nanoTime() - stageStart), longest);
+    }
+
+    private ChunkResult archiveChunk(Timestamp cutoff, int size) {
+        List<UUID> ids = workItemRepository.findIdsByStatusInAndUpdatedAtBefore(
+                ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, size));
+        if (ids.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+        int archived = workItemRepository.updateStatus(ids, ARCHIVABLE_STATUSES, WorkItemStatus.ARCHIVED,
+                Timestamp.from(Instant.now()), SYSTEM_USER);
+        return new ChunkResult(ids.size(), archived, archived);
+    }
+
+    private ChunkResult purgeChunk(Timestamp cutoff, int size) {
+        List<UUID> ids = workItemRepository.findIdsByStatusInAndUpdatedAtBefore(
+                List.of(WorkItemStatus.ARCHIVED), cutoff, PageRequest.of(0, size));
+        if (ids.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+
+        long rows = 0;
+        List<UUID> instanceIds = workflowInstanceRepository.findIdsByWorkItemIds(ids);
+        if (!instanceIds.isEmpty()) {
+            // Children before parents, so the foreign keys hold at every step
+            rows += approvalCommentRepository.deleteByWorkflowInstanceIds(instanceIds);
+            rows += approvalDecisionRepository.deleteByWorkflowInstanceIds(instanceIds);
+            int tasks = approvalTaskRepository.deleteByWorkflowInstanceIds(instanceIds);
+            if (tasks > 0) {
+                taskCountCache.evictAll();
+            }
+            rows += tasks;
+            rows += stepInstanceRepository.deleteByWorkflowInstanceIds(instanceIds);
+            rows += approvalCommentHistoryRepository.deleteByWorkflowInstanceIds(instanceIds);
+            rows += approvalDecisionHistoryRepository.deleteByWorkflowInstanceIds(instanceIds);
+            rows += approvalTaskHistoryRepository.deleteByWorkflowInstanceIds(instanceIds);
+            rows += stepInstanceHistoryRepository.deleteByWorkflowInstanceIds(instanceIds);
+        }
+        rows += workflowProgressRepository.deleteByWorkItemIds(ids);
+        rows += workflowInstanceRepository.deleteByWorkItemIds(ids);
+        rows += workItemVersionRepository.deleteByWorkItemIds(ids);
+        int deleted = workItemRepository.deleteByIdsAndStatus(ids, WorkItemStatus.ARCHIVED);
+        rows += deleted;
+        return new ChunkResult(ids.size(), deleted, rows);
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * Outcome of one chunk: work items selected, work items archived or deleted, and rows written in total.
+     */
+    private record ChunkResult(int selected, int affected, long rows) {
+        static final ChunkResult EMPTY = new ChunkResult(0, 0, 0);
+    }
+
+    private record StageResult(long affected, long rows, int chunks, Duration elapsed, Duration longest) {
+        static final StageResult EMPTY = new StageResult(0, 0, 0, Duration.ZERO, Duration.ZERO);
+    }
+}
@@ -1,6 +1,9 @@
 package com.fractalhive.workflowcore.workitem.service;
 
+import com.fractalhive.workflowcore.workitem.dto.WorkItemBulkSubmitRequest;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemBulkSubmitResult;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemCreateRequest;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemPageResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemSubmitRequest;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemVersionResponse;
@@ -35,6 +38,19 @@ public interface WorkItemService {
      */
     UUID submitWorkItem(UUID workItemId, WorkItemSubmitRequest request, String submittedBy);
 
+    /**
+     * Creates and submits many work items (DRAFT → SUBMITTED), each with its first version.
+     * Items are processed in chunks; each chunk is created, submitted and committed atomically,
+     * so a failure rolls back only the items of its own chunk.
+     *
+     * @param items       the work items to create and submit
+     * @param submittedBy the user creating and submitting the work items
+     * @return one result per item, in request order
+     * @throws IllegalArgumentException if no items are given
+     */
+    List<WorkItemBulkSubmitResult> createAndSubmitWorkItems(List<WorkItemBulkSubmitRequest.Item> items,
+                                                            String submittedBy);
+
     /**
      * Creates a new version for rework.
      *
@@ -70,6 +86,15 @@ public interface WorkItemService {
      */
     WorkflowProgressResponse getWorkflowProgress(UUID workItemId);
 
+    /**
+     * Computes the entity tag of the response {@link #getWorkflowProgress(UUID)} returns, from the
+     * modification time of the progress snapshot row, without reading the snapshot.
+     *
+     * @param workItemId the work item ID
+     * @return the quoted entity tag, or null if the progress has no snapshot and is computed live
+     */
+    String getWorkflowProgressETag(UUID workItemId);
+
     /**
      * Gets all work items associated with a workflow definition.
      * Returns work items that have workflow instances using the specified workflow definition.
@@ -87,4 +112,42 @@ public interface WorkItemService {
      * @return list of work items
      */
     List<WorkItemResponse> listWorkItems(WorkItemStatus status, String type);
+
+    /**
+     * Lists all work items, optionally filtered by status and/or type.
+     * Latest versions are loaded in a single query; the full version history only when requested.
+     *
+     * @param status          optional status filter
+     * @param type            optional type filter
+     * @param includeVersions whether to include each work item's full version history
+     * @return list of work items
+     */
+    List<WorkItemResponse> listWorkItems(WorkItemStatus status, String type, boolean includeVersions);
+
+    /**
+     * Lists one offset page of work items, newest first.
+     *
+     * @param status          optional status filter
+     * @param type            optional type filter
+     * @param page            zero-based page index
+     * @param size            page size
+     * @param includeVersions whether to include each work item's full version history
+     * @return the page of work items with total counts
+     */
+    WorkItemPageResponse listWorkItemsPage(WorkItemStatus status, String type, int page, int size,
+                                           boolean includeVersions);
+
+    /**
+     * Lists one keyset page of work items, newest first.
+     * Does not count the table, so the cost is independent of how deep the caller has scrolled.
+     *
+     * @param status          optional status filter
+     * @param type            optional type filter
+     * @param cursor          cursor returned by the previous page, or null for the first page
+     * @param size            page size
+     * @param includeVersions whether to include each work item's full version history
+     * @return the page of work items with the cursor for the next page
+     */
+    WorkItemPageResponse scrollWorkItems(WorkItemStatus status, String type, String cursor, int size,
+                                         boolean includeVersions);
 }
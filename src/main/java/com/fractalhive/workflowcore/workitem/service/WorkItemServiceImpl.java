@@ -1,8 +1,14 @@
 package com.fractalhive.workflowcore.workitem.service;
 
-import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
-import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fractalhive.workflowcore.common.persistence.InClauseChunks;
+import com.fractalhive.workflowcore.common.web.EntityTags;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemBulkSubmitRequest;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemBulkSubmitResult;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemCreateRequest;
+import com.fractalhive.workflowcore.workitem.dto.WorkItemPageResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemResponse;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemSubmitRequest;
 import com.fractalhive.workflowcore.workitem.dto.WorkItemVersionResponse;
@@ -10,32 +16,38 @@ import com.fractalhive.workflowcore.workitem.dto.WorkflowProgressResponse;
 import com.fractalhive.workflowcore.workitem.entity.WorkItem;
 import com.fractalhive.workflowcore.workitem.entity.WorkItemVersion;
 import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
-import org.springframework.data.domain.Sort;
 import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
 import com.fractalhive.workflowcore.workitem.repository.WorkItemVersionRepository;
 import com.fractalhive.workflowcore.workitem.statemachine.service.WorkItemStateMachineService;
-import com.fractalhive.workflowcore.workflow.entity.WorkflowDefinition;
 import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
-import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
-import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
-import com.fractalhive.workflowcore.workflow.enums.StepStatus;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowProgress;
 import com.fractalhive.workflowcore.workflow.enums.WorkflowStatus;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowDefinitionRepository;
 import com.fractalhive.workflowcore.workflow.repository.WorkflowInstanceRepository;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowStepDefinitionRepository;
-import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowProgressRepository;
+import jakarta.persistence.criteria.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -47,32 +59,44 @@ public class WorkItemServiceImpl implements WorkItemService {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkItemServiceImpl.class);
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    /**
+     * Workflow statuses whose progress is reported for a work item; cancelled instances are skipped.
+     */
+    private static final List<WorkflowStatus> PROGRESS_VISIBLE_STATUSES = List.of(
+            WorkflowStatus.NOT_STARTED, WorkflowStatus.IN_PROGRESS, WorkflowStatus.COMPLETED, WorkflowStatus.FAILED);
+
     private final WorkItemRepository workItemRepository;
     private final WorkItemVersionRepository workItemVersionRepository;
     private final WorkItemStateMachineService workItemStateMachineService;
     private final WorkflowInstanceRepository workflowInstanceRepository;
-    private final WorkflowStepInstanceRepository stepInstanceRepository;
-    private final WorkflowStepDefinitionRepository stepDefinitionRepository;
-    private final WorkflowDefinitionRepository workflowDefinitionRepository;
-    private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowProgressRepository workflowProgressRepository;
+    private final WorkflowProgressAssembler progressAssembler;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowCoreProperties.Batch batchSettings;
 
     public WorkItemServiceImpl(
             WorkItemRepository workItemRepository,
             WorkItemVersionRepository workItemVersionRepository,
             WorkItemStateMachineService workItemStateMachineService,
             WorkflowInstanceRepository workflowInstanceRepository,
-            WorkflowStepInstanceRepository stepInstanceRepository,
-            WorkflowStepDefinitionRepository stepDefinitionRepository,
-            WorkflowDefinitionRepository workflowDefinitionRepository,
-            ApprovalTaskRepository approvalTaskRepository) {
+            WorkflowProgressRepository workflowProgressRepository,
+            WorkflowProgressAssembler progressAssembler,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            WorkflowCoreProperties properties) {
         this.workItemRepository = workItemRepository;
         this.workItemVersionRepository = workItemVersionRepository;
         this.workItemStateMachineService = workItemStateMachineService;
         this.workflowInstanceRepository = workflowInstanceRepository;
-        this.stepInstanceRepository = stepInstanceRepository;
-        this.stepDefinitionRepository = stepDefinitionRepository;
-        this.workflowDefinitionRepository = workflowDefinitionRepository;
-        this.approvalTaskRepository = approvalTaskRepository;
+        this.workflowProgressRepository = workflowProgressRepository;
+        this.progressAssembler = progressAssembler;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSettings = properties.getBatch();
     }
 
     @Override
@@ -114,6 +138,93 @@ public class WorkItemServiceImpl implements WorkItemService {
         }
     }
 
+    @Override
+    public List<WorkItemBulkSubmitResult> createAndSubmitWorkItems(List<WorkItemBulkSubmitRequest.Item> items,
+                                                                   String submittedBy) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one work item is required");
+        }
+        int chunkSize = Math.max(1, batchSettings.getChunkSize());
+
+        List<WorkItemBulkSubmitResult> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<Integer> valid = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            WorkItemBulkSubmitRequest.Item item = items.get(i);
+            if (item == null || item.getContentRef() == null || item.getContentRef().isBlank()) {
+                results.set(i, bulkFailure(i, "Content reference cannot be blank"));
+            } else {
+                valid.add(i);
+            }
+        }
+
+        int submitted = 0;
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Integer> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            try {
+                List<WorkItemBulkSubmitResult> chunkResults = transactionTemplate.execute(
+                        status -> createAndSubmitChunk(items, chunk, submittedBy));
+                chunkResults.forEach(result -> results.set(result.getIndex(), result));
+                submitted += chunkResults.size();
+            } catch (RuntimeException e) {
+                logger.warn("Bulk submit chunk of {} work items rolled back: {}", chunk.size(), e.getMessage());
+                chunk.forEach(index -> results.set(index, bulkFailure(index, e.getMessage())));
+            }
+        }
+
+        logger.info("Bulk created and submitted {} of {} work items", submitted, items.size());
+        return results;
+    }
+
+    /**
+     * Creates and submits one chunk inside the caller's transaction. Work items and versions
+     * are persisted with generated UUIDs and written as JDBC batches when the chunk commits.
+     */
+    private List<WorkItemBulkSubmitResult> createAndSubmitChunk(List<WorkItemBulkSubmitRequest.Item> items,
+                                                                List<Integer> chunk, String submittedBy) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<WorkItem> workItems = new ArrayList<>(chunk.size());
+        List<String> contentRefs = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            WorkItem workItem = new WorkItem();
+            workItem.setType(items.get(index).getType());
+            workItem.setStatus(WorkItemStatus.DRAFT);
+            workItem.setCurrentVersion(1);
+            workItem.setCreatedAt(now);
+            workItem.setCreatedBy(submittedBy);
+            workItems.add(workItem);
+            contentRefs.add(items.get(index).getContentRef());
+        }
+        workItems = workItemRepository.saveAll(workItems);
+
+        workItemStateMachineService.submitAll(workItems, contentRefs, submittedBy);
+
+        List<UUID> workItemIds = workItems.stream().map(WorkItem::getId).collect(Collectors.toList());
+        Map<UUID, UUID> versionIdByWorkItem = InClauseChunks
+                .query(workItemIds, workItemVersionRepository::findByWorkItemIdInOrderByVersionDesc)
+                .stream()
+                .collect(Collectors.toMap(WorkItemVersion::getWorkItemId, WorkItemVersion::getId, (first, second) -> first));
+
+        List<WorkItemBulkSubmitResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            UUID workItemId = workItems.get(i).getId();
+            results.add(WorkItemBulkSubmitResult.builder()
+                    .index(chunk.get(i))
+                    .workItemId(workItemId)
+                    .versionId(versionIdByWorkItem.get(workItemId))
+                    .submitted(true)
+                    .build());
+        }
+        return results;
+    }
+
+    private WorkItemBulkSubmitResult bulkFailure(int index, String error) {
+        return WorkItemBulkSubmitResult.builder()
+                .index(index)
+                .submitted(false)
+                .error(error)
+                .build();
+    }
+
     @Override
     @Transactional
     public UUID createVersion(UUID workItemId, String contentRef, String createdBy) {
@@ -187,105 +298,33 @@ public class WorkItemServiceImpl implements WorkItemService {
     @Override
     @Transactional(readOnly = true)
     public WorkflowProgressResponse getWorkflowProgress(UUID workItemId) {
-        // Find active workflow instance
-        Optional<WorkflowInstance> instanceOpt = workflowInstanceRepository
-                .findFirstByWorkItemIdAndStatusInOrderByCreatedAtDesc(
-                        workItemId,
-                        List.of(WorkflowStatus.NOT_STARTED, WorkflowStatus.IN_PROGRESS, WorkflowStatus.COMPLETED, WorkflowStatus.FAILED));
-
-        if (instanceOpt.isEmpty()) {
-            return WorkflowProgressResponse.builder()
-                    .workItemId(workItemId)
-                    .steps(List.of())
-                    .progress(WorkflowProgressResponse.ProgressSummary.builder()
-                            .completedSteps(0)
-                            .totalSteps(0)
-                            .percentage(0)
-                            .build())
-                    .build();
-        }
-
-        WorkflowInstance instance = instanceOpt.get();
-
-        // Get workflow definition for name
-        WorkflowDefinition workflowDef = workflowDefinitionRepository.findById(instance.getWorkflowId())
-                .orElse(null);
-
-        // Get all step instances ordered by step order
-        List<WorkflowStepInstance> stepInstances = stepInstanceRepository
-                .findByWorkflowInstanceId(instance.getId());
-
-        // Build step progress info
-        List<WorkflowProgressResponse.StepProgressInfo> stepInfos = new ArrayList<>();
-        WorkflowProgressResponse.StepProgressInfo currentStepInfo = null;
-
-        for (WorkflowStepInstance stepInstance : stepInstances) {
-            WorkflowStepDefinition stepDef = stepDefinitionRepository.findById(stepInstance.getStepId())
-                    .orElse(null);
-
-            // Get tasks for this step
-            List<ApprovalTask> tasks = approvalTaskRepository.findByStepInstanceId(stepInstance.getId());
-            List<WorkflowProgressResponse.TaskProgressInfo> taskInfos = tasks.stream()
-                    .map(task -> WorkflowProgressResponse.TaskProgressInfo.builder()
-                            .taskId(task.getId())
-                            .approverId(task.getApproverId())
-                            .status(task.getStatus())
-                            .dueAt(task.getDueAt())
-                            .actedAt(task.getActedAt())
-                            .build())
-                    .collect(Collectors.toList());
-
-            WorkflowProgressResponse.StepProgressInfo stepInfo = WorkflowProgressResponse.StepProgressInfo.builder()
-                    .stepInstanceId(stepInstance.getId())
-                    .stepId(stepInstance.getStepId())
-                    .stepName(stepDef != null ? stepDef.getStepName() : "Unknown")
-                    .stepOrder(stepDef != null ? stepDef.getStepOrder() : 0)
-                    .status(stepInstance.getStatus())
-                    .startedAt(stepInstance.getStartedAt())
-                    .completedAt(stepInstance.getCompletedAt())
-                    .tasks(taskInfos)
-                    .build();
-
-            stepInfos.add(stepInfo);
-
-            // Track current step (IN_PROGRESS)
-            if (stepInstance.getStatus() == StepStatus.IN_PROGRESS) {
-                currentStepInfo = stepInfo;
+        // Fast path: the materialized snapshot maintained by transition actions
+        Optional<WorkflowProgress> snapshot = workflowProgressRepository
+                .findFirstByWorkItemIdAndWorkflowStatusInOrderByCreatedAtDesc(workItemId, PROGRESS_VISIBLE_STATUSES);
+        if (snapshot.isPresent()) {
+            try {
+                return objectMapper.readValue(snapshot.get().getSnapshot(), WorkflowProgressResponse.class);
+            } catch (JsonProcessingException e) {
+                logger.warn("Unreadable progress snapshot for workflow instance {}, recomputing",
+                        snapshot.get().getWorkflowInstanceId(), e);
             }
         }
 
-        // Sort by step order
-        stepInfos.sort(Comparator.comparing(WorkflowProgressResponse.StepProgressInfo::getStepOrder));
-
-        // Calculate progress
-        long completedCount = stepInfos.stream()
-                .filter(s -> s.getStatus() == StepStatus.COMPLETED)
-                .count();
-        int totalSteps = stepInfos.size();
-        int percentage = totalSteps > 0 ? (int) ((completedCount * 100) / totalSteps) : 0;
-
-        // Build workflow instance info
-        WorkflowProgressResponse.WorkflowInstanceInfo workflowInfo = WorkflowProgressResponse.WorkflowInstanceInfo.builder()
-                .workflowInstanceId(instance.getId())
-                .workflowId(instance.getWorkflowId())
-                .workflowName(workflowDef != null ? workflowDef.getName() : "Unknown")
-                .workflowVersion(instance.getWorkflowVersion())
-                .status(instance.getStatus())
-                .startedAt(instance.getStartedAt())
-                .completedAt(instance.getCompletedAt())
-                .build();
+        // Instances without a snapshot (e.g. started before snapshots existed) are computed live
+        return workflowInstanceRepository
+                .findFirstByWorkItemIdAndStatusInOrderByCreatedAtDesc(workItemId, PROGRESS_VISIBLE_STATUSES)
+                .map(progressAssembler::assemble)
+                .orElseGet(() -> progressAssembler.empty(workItemId));
+    }
 
-        return WorkflowProgressResponse.builder()
-                .workItemId(workItemId)
-                .workflowInstance(workflowInfo)
-                .steps(stepInfos)
-                .currentStep(currentStepInfo)
-                .progress(WorkflowProgressResponse.ProgressSummary.builder()
-                        .completedSteps((int) completedCount)
-                        .totalSteps(totalSteps)
-                        .percentage(percentage)
-                        .build())
-                .build();
+    @Override
+    @Transactional(readOnly = true)
+    public String getWorkflowProgressETag(UUID workItemId) {
+        // The snapshot row is rewritten, and its updatedAt stamped, whenever the progress changes
+        return workflowProgressRepository
+                .findFirstVersionByWorkItemIdAndWorkflowStatusInOrderByCreatedAtDesc(workItemId, PROGRESS_VISIBLE_STATUSES)
+                .map(version -> EntityTags.of(version.getWorkflowInstanceId(), version.getUpdatedAt()))
+                .orElse(null);
     }
 
     @Override
@@ -306,75 +345,107 @@ public class WorkItemServiceImpl implements WorkItemService {
         }
 
         // Fetch work items
-        List<WorkItem> workItems = workItemRepository.findAllById(workItemIds);
+        List<WorkItem> workItems = InClauseChunks.query(workItemIds, workItemRepository::findAllById);
 
         // Convert to response DTOs
-        return workItems.stream()
-                .map(workItem -> {
-                    Optional<WorkItemVersion> latestVersion = workItemVersionRepository
-                            .findFirstByWorkItemIdOrderByVersionDesc(workItem.getId());
-
-                    List<WorkItemVersion> versions = workItemVersionRepository
-                            .findByWorkItemIdOrderByVersionDesc(workItem.getId());
+        return toResponses(workItems, true);
+    }
 
-                    WorkItemVersionResponse latestVersionResponse = latestVersion
-                            .map(this::toVersionResponse)
-                            .orElse(null);
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkItemResponse> listWorkItems(WorkItemStatus status, String type) {
+        return listWorkItems(status, type, true);
+    }
 
-                    List<WorkItemVersionResponse> versionResponses = versions.stream()
-                            .map(this::toVersionResponse)
-                            .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkItemResponse> listWorkItems(WorkItemStatus status, String type, boolean includeVersions) {
+        List<WorkItem> workItems = workItemRepository.findAll(filterBy(status, type), NEWEST_FIRST);
+        return toResponses(workItems, includeVersions);
+    }
 
-                    return WorkItemResponse.builder()
-                            .workItemId(workItem.getId())
-                            .type(workItem.getType())
-                            .status(workItem.getStatus())
-                            .currentVersion(workItem.getCurrentVersion())
-                            .contentRef(latestVersionResponse != null ? latestVersionResponse.getContentRef() : null)
-                            .createdAt(workItem.getCreatedAt())
-                            .createdBy(workItem.getCreatedBy())
-                            .latestVersion(latestVersionResponse)
-                            .versions(versionResponses)
-                            .build();
-                })
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public WorkItemPageResponse listWorkItemsPage(WorkItemStatus status, String type, int page, int size,
+                                                  boolean includeVersions) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative: " + page);
+        }
+        int pageSize = clampPageSize(size);
+
+        Page<WorkItem> result = workItemRepository.findAll(
+                filterBy(status, type), PageRequest.of(page, pageSize, NEWEST_FIRST));
+
+        return WorkItemPageResponse.builder()
+                .items(toResponses(result.getContent(), includeVersions))
+                .page(result.getNumber())
+                .size(pageSize)
+                .totalElements(result.getTotalElements())
+                .totalPages(result.getTotalPages())
+                .hasNext(result.hasNext())
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<WorkItemResponse> listWorkItems(WorkItemStatus status, String type) {
-        List<WorkItem> workItems;
-
-        if (status != null && type != null) {
-            // Filter by both status and type
-            workItems = workItemRepository.findByStatusAndType(status, type);
-        } else if (status != null) {
-            // Filter by status only
-            workItems = workItemRepository.findByStatus(status);
-        } else if (type != null) {
-            // Filter by type only
-            workItems = workItemRepository.findByType(type);
-        } else {
-            // No filters - get all work items, ordered by creation date descending
-            workItems = workItemRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
+    public WorkItemPageResponse scrollWorkItems(WorkItemStatus status, String type, String cursor, int size,
+                                                boolean includeVersions) {
+        int pageSize = clampPageSize(size);
+
+        Specification<WorkItem> spec = filterBy(status, type);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(after(cursor));
         }
 
-        // Convert to response DTOs
-        return workItems.stream()
-                .map(workItem -> {
-                    Optional<WorkItemVersion> latestVersion = workItemVersionRepository
-                            .findFirstByWorkItemIdOrderByVersionDesc(workItem.getId());
+        // Fetch one extra row to know whether another page exists without counting
+        List<WorkItem> rows = workItemRepository.findBy(spec,
+                query -> query.sortBy(NEWEST_FIRST).limit(pageSize + 1).all());
 
-                    List<WorkItemVersion> versions = workItemVersionRepository
-                            .findByWorkItemIdOrderByVersionDesc(workItem.getId());
+        boolean hasNext = rows.size() > pageSize;
+        List<WorkItem> workItems = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(workItems.get(workItems.size() - 1)) : null;
 
-                    WorkItemVersionResponse latestVersionResponse = latestVersion
-                            .map(this::toVersionResponse)
-                            .orElse(null);
+        return WorkItemPageResponse.builder()
+                .items(toResponses(workItems, includeVersions))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
 
-                    List<WorkItemVersionResponse> versionResponses = versions.stream()
-                            .map(this::toVersionResponse)
-                            .collect(Collectors.toList());
+    /**
+     * Converts work items to response DTOs with one query for all latest versions
+     * and, if requested, one query for all version histories, per chunk of {@value InClauseChunks#MAX_SIZE} items.
+     */
+    private List<WorkItemResponse> toResponses(List<WorkItem> workItems, boolean includeVersions) {
+        if (workItems.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> workItemIds = workItems.stream().map(WorkItem::getId).collect(Collectors.toList());
+
+        Map<UUID, WorkItemVersion> latestVersions = InClauseChunks
+                .query(workItemIds, workItemVersionRepository::findLatestByWorkItemIdIn)
+                .stream()
+                .collect(Collectors.toMap(WorkItemVersion::getWorkItemId, Function.identity()));
+
+        Map<UUID, List<WorkItemVersion>> versionsByWorkItem = includeVersions
+                ? InClauseChunks.query(workItemIds, workItemVersionRepository::findByWorkItemIdInOrderByVersionDesc).stream()
+                        .collect(Collectors.groupingBy(WorkItemVersion::getWorkItemId))
+                : Collections.emptyMap();
+
+        return workItems.stream()
+                .map(workItem -> {
+                    WorkItemVersion latestVersion = latestVersions.get(workItem.getId());
+                    WorkItemVersionResponse latestVersionResponse = latestVersion != null
+                            ? toVersionResponse(latestVersion)
+                            : null;
+
+                    List<WorkItemVersionResponse> versionResponses = includeVersions
+                            ? versionsByWorkItem.getOrDefault(workItem.getId(), List.of()).stream()
+                                    .map(this::toVersionResponse)
+                                    .collect(Collectors.toList())
+                            : null;
 
                     return WorkItemResponse.builder()
                             .workItemId(workItem.getId())
@@ -391,6 +462,60 @@ public class WorkItemServiceImpl implements WorkItemService {
                 .collect(Collectors.toList());
     }
 
+    private static Specification<WorkItem> filterBy(WorkItemStatus status, String type) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("type"), type));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Keyset predicate for (createdAt, id) strictly after the cursor position in newest-first order.
+     */
+    private static Specification<WorkItem> after(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        int separator = decoded.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+
+        Timestamp createdAt;
+        UUID id;
+        try {
+            createdAt = Timestamp.from(Instant.parse(decoded.substring(0, separator)));
+            id = UUID.fromString(decoded.substring(separator + 1));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+    }
+
+    private static String encodeCursor(WorkItem last) {
+        String raw = last.getCreatedAt().toInstant() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int clampPageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     private WorkItemVersionResponse toVersionResponse(WorkItemVersion version) {
         return WorkItemVersionResponse.builder()
                 .versionId(version.getId())
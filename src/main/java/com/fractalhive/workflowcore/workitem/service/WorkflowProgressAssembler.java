@@ -0,0 +1,186 @@
+package com.fractalhive.workflowcore.workitem.service;
+
+import com.fractalhive.workflowcore.approval.entity.ApprovalTask;
+import com.fractalhive.workflowcore.approval.entity.ApprovalTaskHistory;
+import com.fractalhive.workflowcore.approval.enums.TaskStatus;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskHistoryRepository;
+import com.fractalhive.workflowcore.approval.repository.ApprovalTaskRepository;
+import com.fractalhive.workflowcore.common.persistence.PartitionPruning;
+import com.fractalhive.workflowcore.workitem.dto.WorkflowProgressResponse;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowDefinition;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowInstance;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepDefinition;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstance;
+import com.fractalhive.workflowcore.workflow.entity.WorkflowStepInstanceHistory;
+import com.fractalhive.workflowcore.workflow.enums.StepStatus;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowDefinitionRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceHistoryRepository;
+import com.fractalhive.workflowcore.workflow.repository.WorkflowStepInstanceRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a {@link WorkflowProgressResponse} for a workflow instance from live data.
+ * Used to (re)compute progress snapshots and as a fallback when no snapshot exists.
+ */
+@Component
+public class WorkflowProgressAssembler {
+
+    private final WorkflowDefinitionRepository workflowDefinitionRepository;
+    private final WorkflowStepInstanceRepository stepInstanceRepository;
+    private final ApprovalTaskRepository approvalTaskRepository;
+    private final WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository;
+    private final ApprovalTaskHistoryRepository approvalTaskHistoryRepository;
+
+    public WorkflowProgressAssembler(WorkflowDefinitionRepository workflowDefinitionRepository,
+                                     WorkflowStepInstanceRepository stepInstanceRepository,
+                                     ApprovalTaskRepository approvalTaskRepository,
+                                     WorkflowStepInstanceHistoryRepository stepInstanceHistoryRepository,
+                                     ApprovalTaskHistoryRepository approvalTaskHistoryRepository) {
+        this.workflowDefinitionRepository = workflowDefinitionRepository;
+        this.stepInstanceRepository = stepInstanceRepository;
+        this.approvalTaskRepository = approvalTaskRepository;
+        this.stepInstanceHistoryRepository = stepInstanceHistoryRepository;
+        this.approvalTaskHistoryRepository = approvalTaskHistoryRepository;
+    }
+
+    /**
+     * Builds the progress of a work item that has no workflow instance.
+     *
+     * @param workItemId the work item ID
+     * @return empty progress response
+     */
+    public WorkflowProgressResponse empty(UUID workItemId) {
+        return WorkflowProgressResponse.builder()
+                .workItemId(workItemId)
+                .steps(List.of())
+                .progress(WorkflowProgressResponse.ProgressSummary.builder()
+                        .completedSteps(0)
+                        .totalSteps(0)
+                        .percentage(0)
+                        .pendingApprovers(List.of())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Builds the progress of a workflow instance.
+     *
+     * @param instance the workflow instance
+     * @return progress response
+     */
+    public WorkflowProgressResponse assemble(WorkflowInstance instance) {
+        // Get workflow definition for name
+        WorkflowDefinition workflowDef = workflowDefinitionRepository.findById(instance.getWorkflowId())
+                .orElse(null);
+
+        // Step instances with their definitions, and all tasks of the instance: two queries in total,
+        // read from the history tables once the instance has been archived
+        List<Object[]> stepRows;
+        List<ApprovalTask> tasks;
+        if (instance.getArchivedAt() != null) {
+            stepRows = stepInstanceHistoryRepository.findWithDefinitionByWorkflowInstanceId(instance.getId()).stream()
+                    .map(row -> new Object[]{((WorkflowStepInstanceHistory) row[0]).toStepInstance(), row[1]})
+                    .collect(Collectors.toList());
+            tasks = approvalTaskHistoryRepository.findByWorkflowInstanceId(instance.getId()).stream()
+                    .map(ApprovalTaskHistory::toApprovalTask)
+                    .collect(Collectors.toList());
+        } else {
+            stepRows = stepInstanceRepository.findWithDefinitionByWorkflowInstanceId(instance.getId());
+            tasks = approvalTaskRepository.findByWorkflowInstanceId(instance.getId(),
+                    PartitionPruning.notBefore(instance.getCreatedAt()));
+        }
+        Map<UUID, List<ApprovalTask>> tasksByStep = tasks.stream()
+                .collect(Collectors.groupingBy(ApprovalTask::getStepInstanceId));
+
+        // Build step progress info
+        List<WorkflowProgressResponse.StepProgressInfo> stepInfos = new ArrayList<>();
+        WorkflowProgressResponse.StepProgressInfo currentStepInfo = null;
+
+        for (Object[] row : stepRows) {
+            WorkflowStepInstance stepInstance = (WorkflowStepInstance) row[0];
+            WorkflowStepDefinition stepDef = (WorkflowStepDefinition) row[1];
+
+            List<WorkflowProgressResponse.TaskProgressInfo> taskInfos = tasksByStep
+                    .getOrDefault(stepInstance.getId(), List.of()).stream()
+                    .map(task -> WorkflowProgressResponse.TaskProgressInfo.builder()
+                            .taskId(task.getId())
+                            .approverId(task.getApproverId())
+                            .status(task.getStatus())
+                            .dueAt(task.getDueAt())
+                            .actedAt(task.getActedAt())
+                            .build())
+                    .collect(Collectors.toList());
+
+            WorkflowProgressResponse.StepProgressInfo stepInfo = WorkflowProgressResponse.StepProgressInfo.builder()
+                    .stepInstanceId(stepInstance.getId())
+                    .stepId(stepInstance.getStepId())
+                    .stepName(stepDef != null ? stepDef.getStepName() : "Unknown")
+                    .stepOrder(stepDef != null ? stepDef.getStepOrder() : 0)
+                    .status(stepInstance.getStatus())
+                    .startedAt(stepInstance.getStartedAt())
+                    .completedAt(stepInstance.getCompletedAt())
+                    .tasks(taskInfos)
+                    .build();
+
+            stepInfos.add(stepInfo);
+
+            // Track current step (IN_PROGRESS)
+            if (stepInstance.getStatus() == StepStatus.IN_PROGRESS) {
+                currentStepInfo = stepInfo;
+            }
+        }
+
+        // Sort by step order
+        stepInfos.sort(Comparator.comparing(WorkflowProgressResponse.StepProgressInfo::getStepOrder));
+
+        // Calculate progress
+        long completedCount = stepInfos.stream()
+                .filter(s -> s.getStatus() == StepStatus.COMPLETED)
+                .count();
+        int totalSteps = stepInfos.size();
+        int percentage = totalSteps > 0 ? (int) ((completedCount * 100) / totalSteps) : 0;
+        Integer currentStepOrder = stepInfos.stream()
+                .filter(s -> s.getStatus() == StepStatus.IN_PROGRESS)
+                .map(WorkflowProgressResponse.StepProgressInfo::getStepOrder)
+                .min(Integer::compare)
+                .orElse(null);
+        List<String> pendingApprovers = stepInfos.stream()
+                .flatMap(s -> s.getTasks().stream())
+                .filter(t -> t.getStatus() == TaskStatus.PENDING)
+                .map(WorkflowProgressResponse.TaskProgressInfo::getApproverId)
+                .distinct()
+                .collect(Collectors.toList());
+
+        // Build workflow instance info
+        WorkflowProgressResponse.WorkflowInstanceInfo workflowInfo = WorkflowProgressResponse.WorkflowInstanceInfo.builder()
+                .workflowInstanceId(instance.getId())
+                .workflowId(instance.getWorkflowId())
+                .workflowName(workflowDef != null ? workflowDef.getName() : "Unknown")
+                .workflowVersion(instance.getWorkflowVersion())
+                .status(instance.getStatus())
+                .startedAt(instance.getStartedAt())
+                .completedAt(instance.getCompletedAt())
+                .build();
+
+        return WorkflowProgressResponse.builder()
+                .workItemId(instance.getWorkItemId())
+                .workflowInstance(workflowInfo)
+                .steps(stepInfos)
+                .currentStep(currentStepInfo)
+                .progress(WorkflowProgressResponse.ProgressSummary.builder()
+                        .completedSteps((int) completedCount)
+                        .totalSteps(totalSteps)
+                        .percentage(percentage)
+                        .currentStepOrder(currentStepOrder)
+                        .pendingApprovers(pendingApprovers)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,335 @@
+package com.fractalhive.workflowcore.workitem.service;
+
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workitem.dto.WorkflowProgressResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process fan-out of workflow progress changes to subscribers of a work item.
+ * <p>
+ * {@code WorkflowProgressTracker} publishes the recomputed progress of every workflow instance a transaction
+ * changed, once that transaction has committed. Each subscriber has its own bounded buffer that drops the
+ * oldest update when full, and is drained on a private delivery pool, so a slow client never blocks a
+ * committing transaction. Consecutive identical updates are delivered once.
+ * <p>
+ * Listeners typically write to blocking servlet output, so a client that stops reading holds a delivery
+ * thread until its write fails. A watchdog cancels every subscription whose delivery has been running for
+ * longer than {@code send-timeout}, and adds a thread to the pool for as long as that delivery stays stuck,
+ * so the remaining subscribers keep their full delivery capacity.
+ * <p>
+ * The delivery pool is deliberately not exposed as an {@code Executor} bean so that it does not replace the
+ * host application's default task executor. Subscriptions are local to this node.
+ */
+@Component
+public class WorkflowProgressEventBus implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkflowProgressEventBus.class);
+
+    private final ConcurrentMap<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor executor;
+    private final ScheduledExecutorService watchdog;
+    private final int bufferSize;
+    private final int deliveryThreads;
+    private final long sendTimeoutNanos;
+    private int stuckDeliveries;
+
+    public WorkflowProgressEventBus(WorkflowCoreProperties properties) {
+        WorkflowCoreProperties.ProgressStream settings = properties.getProgressStream();
+        this.bufferSize = Math.max(1, settings.getBufferSize());
+        this.deliveryThreads = Math.max(1, settings.getDeliveryThreads());
+        this.sendTimeoutNanos = settings.getSendTimeout().toNanos();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(deliveryThreads);
+        this.executor.setMaxPoolSize(deliveryThreads);
+        this.executor.setThreadNamePrefix("workflow-progress-events-");
+        this.executor.setDaemon(true);
+        this.executor.initialize();
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-progress-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkMillis = Math.max(100L, settings.getSendTimeout().toMillis() / 2);
+        this.watchdog.scheduleWithFixedDelay(this::cancelStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Receives progress updates of one work item.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called on a delivery thread, one update at a time per subscription.
+         * Throwing cancels the subscription.
+         *
+         * @param progress the new progress
+         * @throws Exception if the update could not be delivered
+         */
+        void onProgress(WorkflowProgressResponse progress) throws Exception;
+
+        /**
+         * Called on a delivery thread for a keep-alive requested with {@link Subscription#keepAlive()}, never
+         * concurrently with {@link #onProgress}. Throwing cancels the subscription.
+         *
+         * @throws Exception if the keep-alive could not be delivered
+         */
+        default void onKeepAlive() throws Exception {
+        }
+    }
+
+    /**
+     * Subscribes to the progress changes of a work item.
+     *
+     * @param workItemId the work item ID
+     * @param listener   receives the updates
+     * @return the subscription, to be cancelled when the subscriber goes away
+     */
+    public Subscription subscribe(UUID workItemId, ProgressListener listener) {
+        Subscription subscription = new Subscription(workItemId, listener);
+        subscriptions.computeIfAbsent(workItemId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Hands a progress change to every subscriber of its work item. Never blocks.
+     *
+     * @param progress the new progress
+     */
+    public void publish(WorkflowProgressResponse progress) {
+        if (progress == null || progress.getWorkItemId() == null) {
+            return;
+        }
+        Set<Subscription> subscribers = subscriptions.get(progress.getWorkItemId());
+        if (subscribers != null) {
+            subscribers.forEach(subscription -> subscription.offer(progress, false));
+        }
+    }
+
+    /**
+     * Returns the number of open subscriptions across all work items.
+     *
+     * @return number of subscriptions
+     */
+    public int subscriberCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        watchdog.shutdownNow();
+        executor.shutdown();
+    }
+
+    private void cancelStalled() {
+        long now = System.nanoTime();
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(subscription -> {
+            long startedAt = subscription.deliveryStartedAt;
+            if (startedAt != 0L && now - startedAt > sendTimeoutNanos) {
+                subscription.stall();
+            }
+        }));
+    }
+
+    /**
+     * Adds a delivery thread while a stuck delivery occupies one, or removes it again once the delivery returns.
+     */
+    private synchronized void adjustForStuckDeliveries(int change) {
+        stuckDeliveries += change;
+        int poolSize = deliveryThreads + stuckDeliveries;
+        // Raise the maximum before the core size, and lower the core size before the maximum
+        if (change > 0) {
+            executor.setMaxPoolSize(poolSize);
+            executor.setCorePoolSize(poolSize);
+        } else {
+            executor.setCorePoolSize(poolSize);
+            executor.setMaxPoolSize(poolSize);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.workItemId, (id, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * One subscriber's bounded buffer and delivery state.
+     */
+    public final class Subscription {
+
+        private final UUID workItemId;
+        private final ProgressListener listener;
+        private final Deque<WorkflowProgressResponse> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private boolean received;
+        private boolean keepAlivePending;
+        private boolean stalled;
+        private long dropped;
+        private volatile boolean cancelled;
+        private volatile long deliveryStartedAt;
+        private WorkflowProgressResponse lastDelivered;
+
+        private Subscription(UUID workItemId, ProgressListener listener) {
+            this.workItemId = workItemId;
+            this.listener = listener;
+        }
+
+        /**
+         * Queues the progress the subscriber starts from, unless a newer change has already arrived.
+         * Subscribe first and read the current progress afterwards, so that no change is missed.
+         *
+         * @param progress the current progress
+         */
+        public void offerInitial(WorkflowProgressResponse progress) {
+            offer(progress, true);
+        }
+
+        /**
+         * Stops delivery and drops any buffered updates. Safe to call more than once.
+         */
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Queues a keep-alive, delivered through {@link ProgressListener#onKeepAlive()} unless an update is
+         * delivered first. Never blocks, so a client that stopped reading cannot hold up the caller.
+         *
+         * @return false if the subscription is cancelled
+         */
+        public boolean keepAlive() {
+            synchronized (this) {
+                if (cancelled) {
+                    return false;
+                }
+                keepAlivePending = true;
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        /**
+         * Returns how many updates were dropped because the subscriber fell behind.
+         *
+         * @return number of dropped updates
+         */
+        public synchronized long getDropped() {
+            return dropped;
+        }
+
+        private void offer(WorkflowProgressResponse progress, boolean initial) {
+            synchronized (this) {
+                if (cancelled || (initial && received)) {
+                    return;
+                }
+                received = true;
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    dropped++;
+                }
+                buffer.addLast(progress);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (TaskRejectedException e) {
+                    // Shutting down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                WorkflowProgressResponse next;
+                boolean keepAlive;
+                synchronized (this) {
+                    next = buffer.pollFirst();
+                    // An update is traffic too, so a keep-alive is only sent when nothing else is
+                    keepAlive = next == null && keepAlivePending;
+                    keepAlivePending = false;
+                    if ((next == null && !keepAlive) || cancelled) {
+                        // Cleared under the same lock offer() appends under, so no update is left undrained
+                        draining.set(false);
+                        return;
+                    }
+                }
+                if (next != null && Objects.equals(next, lastDelivered)) {
+                    continue;
+                }
+                deliveryStartedAt = System.nanoTime();
+                try {
+                    if (keepAlive) {
+                        listener.onKeepAlive();
+                    } else {
+                        listener.onProgress(next);
+                        lastDelivered = next;
+                    }
+                } catch (Exception e) {
+                    logger.debug("Progress subscriber of work item {} failed, cancelling", workItemId, e);
+                    cancel();
+                    draining.set(false);
+                    return;
+                } finally {
+                    deliveryStartedAt = 0L;
+                    releaseIfStalled();
+                }
+            }
+        }
+
+        /**
+         * Cancels a subscription whose delivery is stuck and lends the pool a thread until it returns.
+         */
+        private void stall() {
+            synchronized (this) {
+                if (stalled || deliveryStartedAt == 0L) {
+                    return;
+                }
+                // Adjusted under this lock, so the release below can never overtake it
+                stalled = true;
+                adjustForStuckDeliveries(1);
+            }
+            logger.warn("Progress subscriber of work item {} has not accepted an update for {} ms, cancelling",
+                    workItemId, TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            cancel();
+        }
+
+        private synchronized void releaseIfStalled() {
+            if (stalled) {
+                stalled = false;
+                adjustForStuckDeliveries(-1);
+            }
+        }
+    }
+}
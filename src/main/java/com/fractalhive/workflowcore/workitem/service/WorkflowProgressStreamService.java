@@ -0,0 +1,127 @@
+package com.fractalhive.workflowcore.workitem.service;
+
+import com.fractalhive.workflowcore.common.datasource.ReadYourWrites;
+import com.fractalhive.workflowcore.config.WorkflowCoreProperties;
+import com.fractalhive.workflowcore.workitem.dto.WorkflowProgressResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams the workflow progress of a work item as server-sent events.
+ * <p>
+ * A stream starts with the current progress (one read of the progress snapshot) and then receives a
+ * {@code progress} event whenever a committed transaction changes it, fed by the
+ * {@link WorkflowProgressEventBus}. Nothing is queried while the workflow is idle. A private scheduler, which
+ * is not exposed as a bean, queues keep-alive comments; they are written by the event bus like updates, so the
+ * scheduler never blocks on a client, and a failed write ends the stream of a client that has gone away.
+ */
+@Service
+public class WorkflowProgressStreamService implements DisposableBean {
+
+    static final String EVENT_NAME = "progress";
+
+    private final WorkflowProgressEventBus eventBus;
+    private final WorkItemService workItemService;
+    private final WorkflowCoreProperties.ProgressStream settings;
+    private final ScheduledExecutorService heartbeats;
+    private final AtomicLong eventIds = new AtomicLong();
+
+    public WorkflowProgressStreamService(WorkflowProgressEventBus eventBus,
+                                         WorkItemService workItemService,
+                                         WorkflowCoreProperties properties) {
+        this.eventBus = eventBus;
+        this.workItemService = workItemService;
+        this.settings = properties.getProgressStream();
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-progress-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a progress stream for a work item.
+     *
+     * @param workItemId the work item ID
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter open(UUID workItemId) {
+        SseEmitter emitter = new SseEmitter(settings.getTimeout().toMillis());
+        WorkflowProgressEventBus.Subscription subscription = eventBus.subscribe(workItemId, new EmitterListener(emitter));
+
+        // Read after subscribing, so a change committed in between is not lost; a newer change wins. Read on the
+        // primary, because a lagging replica would leave the client on stale progress until the next change.
+        WorkflowProgressResponse initial;
+        try {
+            initial = ReadYourWrites.onPrimary(() -> workItemService.getWorkflowProgress(workItemId));
+        } catch (RuntimeException e) {
+            // The emitter is never returned, so its callbacks would never end the subscription
+            subscription.cancel();
+            throw e;
+        }
+        subscription.offerInitial(initial);
+
+        long heartbeatMillis = settings.getHeartbeat().toMillis();
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(subscription::keepAlive,
+                heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        Runnable close = () -> {
+            subscription.cancel();
+            heartbeat.cancel(false);
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+        return emitter;
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+    }
+
+    /**
+     * Writes the updates and keep-alives of one subscription to its emitter, on the event bus delivery threads.
+     */
+    private final class EmitterListener implements WorkflowProgressEventBus.ProgressListener {
+
+        private final SseEmitter emitter;
+
+        private EmitterListener(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onProgress(WorkflowProgressResponse progress) throws IOException {
+            send(SseEmitter.event()
+                    .id(Long.toString(eventIds.incrementAndGet()))
+                    .name(EVENT_NAME)
+                    .data(progress, MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void onKeepAlive() throws IOException {
+            send(SseEmitter.event().comment("keep-alive"));
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // Ends the stream; the bus cancels the subscription when this rethrows
+                emitter.completeWithError(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.fractalhive.workflowcore.workitem.statemachine.action;
 
 import com.fractalhive.workflowcore.workitem.entity.WorkItem;
 import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
-import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
 import com.fractalhive.workflowcore.workitem.statemachine.enums.WorkItemEvent;
 import org.springframework.statemachine.StateContext;
 import org.springframework.statemachine.action.Action;
@@ -12,12 +11,6 @@ import org.springframework.statemachine.action.Action;
  */
 public class ApproveWorkItemAction implements Action<WorkItemStatus, WorkItemEvent> {
 
-    private final WorkItemRepository workItemRepository;
-
-    public ApproveWorkItemAction(WorkItemRepository workItemRepository) {
-        this.workItemRepository = workItemRepository;
-    }
-
     @Override
     public void execute(StateContext<WorkItemStatus, WorkItemEvent> context) {
         WorkItem workItem = context.getExtendedState().get("workItem", WorkItem.class);
@@ -26,6 +19,5 @@ public class ApproveWorkItemAction implements Action<WorkItemStatus, WorkItemEve
         }
 
         workItem.setStatus(WorkItemStatus.APPROVED);
-        workItemRepository.save(workItem);
     }
 }
@@ -3,7 +3,6 @@ package com.fractalhive.workflowcore.workitem.statemachine.action;
 import com.fractalhive.workflowcore.workitem.entity.WorkItem;
 import com.fractalhive.workflowcore.workitem.entity.WorkItemVersion;
 import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
-import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
 import com.fractalhive.workflowcore.workitem.repository.WorkItemVersionRepository;
 import com.fractalhive.workflowcore.workitem.statemachine.enums.WorkItemEvent;
 import org.springframework.statemachine.StateContext;
@@ -20,12 +19,9 @@ public class SubmitWorkItemAction implements Action<WorkItemStatus, WorkItemEven
     private static final String CONTENT_REF_HEADER = "contentRef";
     private static final String SUBMITTED_BY_HEADER = "submittedBy";
 
-    private final WorkItemRepository workItemRepository;
     private final WorkItemVersionRepository workItemVersionRepository;
 
-    public SubmitWorkItemAction(WorkItemRepository workItemRepository,
-                                WorkItemVersionRepository workItemVersionRepository) {
-        this.workItemRepository = workItemRepository;
+    public SubmitWorkItemAction(WorkItemVersionRepository workItemVersionRepository) {
         this.workItemVersionRepository = workItemVersionRepository;
     }
 
@@ -56,6 +52,5 @@ public class SubmitWorkItemAction implements Action<WorkItemStatus, WorkItemEven
         version.setCreatedBy(submittedBy);
         workItemVersionRepository.save(version);
         workItem.setStatus(WorkItemStatus.SUBMITTED);
-        workItemRepository.save(workItem);
     }
 }
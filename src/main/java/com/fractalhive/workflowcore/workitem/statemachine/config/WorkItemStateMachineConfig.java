@@ -1,7 +1,6 @@
 package com.fractalhive.workflowcore.workitem.statemachine.config;
 
 import com.fractalhive.workflowcore.workitem.enums.WorkItemStatus;
-import com.fractalhive.workflowcore.workitem.repository.WorkItemRepository;
 import com.fractalhive.workflowcore.workitem.repository.WorkItemVersionRepository;
 import com.fractalhive.workflowcore.workitem.statemachine.action.*;
 import com.fractalhive.workflowcore.workitem.statemachine.enums.WorkItemEvent;
@@ -22,12 +21,9 @@ import java.util.Set;
 @EnableStateMachineFactory(name = "workItemStateMachineFactory")
 public class WorkItemStateMachineConfig extends StateMachineConfigurerAdapter<WorkItemStatus, WorkItemEvent> {
 
-    private final WorkItemRepository workItemRepository;
     private final WorkItemVersionRepository workItemVersionRepository;
 
-    public WorkItemStateMachineConfig(WorkItemRepository workItemRepository,
-                                      WorkItemVersionRepository workItemVersionRepository) {
-        this.workItemRepository = workItemRepository;
+    public WorkItemStateMachineConfig(WorkItemVersionRepository workItemVersionRepository) {
         this.workItemVersionRepository = workItemVersionRepository;
     }
 
@@ -46,13 +42,13 @@ public class WorkItemStateMachineConfig extends StateMachineConfigurerAdapter<Wo
         WorkItemInReviewGuard inReviewGuard = new WorkItemInReviewGuard();
         WorkItemReworkGuard reworkGuard = new WorkItemReworkGuard();
 
-        SubmitWorkItemAction submitAction = new SubmitWorkItemAction(workItemRepository, workItemVersionRepository);
-        StartReviewAction startReviewAction = new StartReviewAction(workItemRepository);
-        ApproveWorkItemAction approveAction = new ApproveWorkItemAction(workItemRepository);
-        RejectWorkItemAction rejectAction = new RejectWorkItemAction(workItemRepository);
-        SendToReworkAction sendToReworkAction = new SendToReworkAction(workItemRepository);
-        ArchiveWorkItemAction archiveAction = new ArchiveWorkItemAction(workItemRepository);
-        CancelWorkItemAction cancelAction = new CancelWorkItemAction(workItemRepository);
+        SubmitWorkItemAction submitAction = new SubmitWorkItemAction(workItemVersionRepository);
+        StartReviewAction startReviewAction = new StartReviewAction();
+        ApproveWorkItemAction approveAction = new ApproveWorkItemAction();
+        RejectWorkItemAction rejectAction = new RejectWorkItemAction();
+        SendToReworkAction sendToReworkAction = new SendToReworkAction();
+        ArchiveWorkItemAction archiveAction = new ArchiveWorkItemAction();
+        CancelWorkItemAction cancelAction = new CancelWorkItemAction();
 
         transitions
             .withExternal()
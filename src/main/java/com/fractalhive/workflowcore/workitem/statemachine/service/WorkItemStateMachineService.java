@@ -13,6 +13,7 @@ import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -52,6 +53,43 @@ public class WorkItemStateMachineService {
         persistState(workItem, stateMachine);
     }
 
+    /**
+     * Submits many work items (DRAFT → SUBMITTED) in the current transaction.
+     * One state machine is reused for all items, and each item still passes the SUBMIT guard and action,
+     * which creates its version. Any item that cannot be submitted fails the whole call.
+     *
+     * @param workItems   the work items, managed by the current persistence context
+     * @param contentRefs the content reference of each work item, in the same order
+     * @param submittedBy the user submitting the work items
+     * @throws IllegalStateException if a work item does not reach SUBMITTED
+     */
+    @Transactional
+    public void submitAll(List<WorkItem> workItems, List<String> contentRefs, String submittedBy) {
+        if (workItems.size() != contentRefs.size()) {
+            throw new IllegalArgumentException("Expected one content reference per work item");
+        }
+        StateMachine<WorkItemStatus, WorkItemEvent> stateMachine = stateMachineFactory.getStateMachine();
+
+        for (int i = 0; i < workItems.size(); i++) {
+            WorkItem workItem = workItems.get(i);
+            stateMachine.stop();
+            restoreStateMachine(stateMachine, workItem);
+
+            Message<WorkItemEvent> message = MessageBuilder
+                    .withPayload(WorkItemEvent.SUBMIT)
+                    .setHeader(CONTENT_REF_HEADER, contentRefs.get(i))
+                    .setHeader(SUBMITTED_BY_HEADER, submittedBy)
+                    .build();
+
+            stateMachine.sendEvent(message);
+            if (stateMachine.getState() == null || stateMachine.getState().getId() != WorkItemStatus.SUBMITTED) {
+                throw new IllegalStateException("Work item could not be submitted from status "
+                        + workItem.getStatus() + ": " + workItem.getId());
+            }
+            persistState(workItem, stateMachine);
+        }
+    }
+
     @Transactional
     public void startReview(UUID workItemId, String userId) {
         WorkItem workItem = getWorkItemOrThrow(workItemId);
@@ -138,7 +176,11 @@ public class WorkItemStateMachineService {
 
     private StateMachine<WorkItemStatus, WorkItemEvent> createAndRestoreStateMachine(WorkItem workItem) {
         StateMachine<WorkItemStatus, WorkItemEvent> stateMachine = stateMachineFactory.getStateMachine();
+        restoreStateMachine(stateMachine, workItem);
+        return stateMachine;
+    }
 
+    private void restoreStateMachine(StateMachine<WorkItemStatus, WorkItemEvent> stateMachine, WorkItem workItem) {
         stateMachine.getExtendedState().getVariables().put(WORK_ITEM_EXTENDED_STATE_KEY, workItem);
 
         // Always restore the state machine to the work item's current state
@@ -156,8 +198,6 @@ public class WorkItemStateMachineService {
         
         // Start the state machine to ensure it's fully initialized
         stateMachine.start();
-
-        return stateMachine;
     }
 
     private void persistState(WorkItem workItem, StateMachine<WorkItemStatus, WorkItemEvent> stateMachine) {
@@ -165,8 +205,9 @@ public class WorkItemStateMachineService {
             throw new IllegalStateException("State machine state is null after transition");
         }
         WorkItemStatus currentState = stateMachine.getState().getId();
+        // The entity is managed by the surrounding transaction: the action's changes and the status
+        // are written by one dirty-checked UPDATE at flush, so there is no explicit save here
         workItem.setStatus(currentState);
-        workItemRepository.save(workItem);
     }
 
     private WorkItem getWorkItemOrThrow(UUID workItemId) {
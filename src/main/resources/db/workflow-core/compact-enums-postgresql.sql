@@ -0,0 +1,140 @@
+-- Converts the workflow-core status and type columns from enum names to smallint codes.
+--
+-- Run once, with the application stopped, before starting it with workflow-core.storage.compact-enums=true.
+-- Each ALTER TABLE rewrites its table once and rebuilds the indexes on it, so plan for the time this takes on
+-- large tables. Codes must match the *CodeConverter classes in com.fractalhive.workflowcore.common.persistence.
+-- An unknown value makes the cast fail and the whole script roll back.
+-- compact-enums-rollback-postgresql.sql reverts the conversion.
+
+BEGIN;
+
+ALTER TABLE approval_task
+    -- TaskStatusCodeConverter
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'PENDING' THEN 1
+        WHEN 'APPROVED' THEN 2
+        WHEN 'REJECTED' THEN 3
+        WHEN 'DELEGATED' THEN 4
+        WHEN 'EXPIRED' THEN 5
+        WHEN 'CANCELLED' THEN 6
+        ELSE CAST(status AS smallint)
+    END,
+    -- ApproverTypeCodeConverter
+    ALTER COLUMN approver_type TYPE smallint USING CASE approver_type
+        WHEN 'USER' THEN 1
+        WHEN 'ROLE' THEN 2
+        WHEN 'MANAGER' THEN 3
+        ELSE CAST(approver_type AS smallint)
+    END;
+
+ALTER TABLE approval_decision
+    -- DecisionTypeCodeConverter
+    ALTER COLUMN decision TYPE smallint USING CASE decision
+        WHEN 'APPROVED' THEN 1
+        WHEN 'REJECTED' THEN 2
+        ELSE CAST(decision AS smallint)
+    END;
+
+ALTER TABLE workflow_instance
+    -- WorkflowStatusCodeConverter
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'NOT_STARTED' THEN 1
+        WHEN 'IN_PROGRESS' THEN 2
+        WHEN 'COMPLETED' THEN 3
+        WHEN 'FAILED' THEN 4
+        WHEN 'CANCELLED' THEN 5
+        ELSE CAST(status AS smallint)
+    END;
+
+ALTER TABLE workflow_step_instance
+    -- StepStatusCodeConverter
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'NOT_STARTED' THEN 1
+        WHEN 'IN_PROGRESS' THEN 2
+        WHEN 'COMPLETED' THEN 3
+        WHEN 'FAILED' THEN 4
+        ELSE CAST(status AS smallint)
+    END;
+
+ALTER TABLE workflow_progress
+    -- WorkflowStatusCodeConverter
+    ALTER COLUMN workflow_status TYPE smallint USING CASE workflow_status
+        WHEN 'NOT_STARTED' THEN 1
+        WHEN 'IN_PROGRESS' THEN 2
+        WHEN 'COMPLETED' THEN 3
+        WHEN 'FAILED' THEN 4
+        WHEN 'CANCELLED' THEN 5
+        ELSE CAST(workflow_status AS smallint)
+    END;
+
+ALTER TABLE workflow_step_definition
+    -- ApprovalTypeCodeConverter
+    ALTER COLUMN approval_type TYPE smallint USING CASE approval_type
+        WHEN 'ALL' THEN 1
+        WHEN 'ANY' THEN 2
+        WHEN 'N_OF_M' THEN 3
+        ELSE CAST(approval_type AS smallint)
+    END;
+
+ALTER TABLE workflow_step_approver
+    -- ApproverTypeCodeConverter
+    ALTER COLUMN approver_type TYPE smallint USING CASE approver_type
+        WHEN 'USER' THEN 1
+        WHEN 'ROLE' THEN 2
+        WHEN 'MANAGER' THEN 3
+        ELSE CAST(approver_type AS smallint)
+    END;
+
+ALTER TABLE work_item
+    -- WorkItemStatusCodeConverter
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'DRAFT' THEN 1
+        WHEN 'SUBMITTED' THEN 2
+        WHEN 'IN_REVIEW' THEN 3
+        WHEN 'REWORK' THEN 4
+        WHEN 'APPROVED' THEN 5
+        WHEN 'REJECTED' THEN 6
+        WHEN 'CANCELLED' THEN 7
+        WHEN 'ARCHIVED' THEN 8
+        ELSE CAST(status AS smallint)
+    END;
+
+-- History tables
+ALTER TABLE approval_task_history
+    -- TaskStatusCodeConverter
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'PENDING' THEN 1
+        WHEN 'APPROVED' THEN 2
+        WHEN 'REJECTED' THEN 3
+        WHEN 'DELEGATED' THEN 4
+        WHEN 'EXPIRED' THEN 5
+        WHEN 'CANCELLED' THEN 6
+        ELSE CAST(status AS smallint)
+    END,
+    -- ApproverTypeCodeConverter
+    ALTER COLUMN approver_type TYPE smallint USING CASE approver_type
+        WHEN 'USER' THEN 1
+        WHEN 'ROLE' THEN 2
+        WHEN 'MANAGER' THEN 3
+        ELSE CAST(approver_type AS smallint)
+    END;
+
+ALTER TABLE approval_decision_history
+    -- DecisionTypeCodeConverter
+    ALTER COLUMN decision TYPE smallint USING CASE decision
+        WHEN 'APPROVED' THEN 1
+        WHEN 'REJECTED' THEN 2
+        ELSE CAST(decision AS smallint)
+    END;
+
+ALTER TABLE workflow_step_instance_history
+    -- StepStatusCodeConverter
+    ALTER COLUMN status TYPE smallint USING CASE status
+        WHEN 'NOT_STARTED' THEN 1
+        WHEN 'IN_PROGRESS' THEN 2
+        WHEN 'COMPLETED' THEN 3
+        WHEN 'FAILED' THEN 4
+        ELSE CAST(status AS smallint)
+    END;
+
+COMMIT;
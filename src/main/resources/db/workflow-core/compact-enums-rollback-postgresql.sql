@@ -0,0 +1,110 @@
+-- Reverts compact-enums-postgresql.sql: converts smallint codes back to enum names.
+--
+-- Run with the application stopped, then start it with workflow-core.storage.compact-enums=false.
+
+BEGIN;
+
+ALTER TABLE approval_task
+    ALTER COLUMN status TYPE varchar(30) USING CASE status
+        WHEN 1 THEN 'PENDING'
+        WHEN 2 THEN 'APPROVED'
+        WHEN 3 THEN 'REJECTED'
+        WHEN 4 THEN 'DELEGATED'
+        WHEN 5 THEN 'EXPIRED'
+        WHEN 6 THEN 'CANCELLED'
+    END,
+    ALTER COLUMN approver_type TYPE varchar(20) USING CASE approver_type
+        WHEN 1 THEN 'USER'
+        WHEN 2 THEN 'ROLE'
+        WHEN 3 THEN 'MANAGER'
+    END;
+
+ALTER TABLE approval_decision
+    ALTER COLUMN decision TYPE varchar(20) USING CASE decision
+        WHEN 1 THEN 'APPROVED'
+        WHEN 2 THEN 'REJECTED'
+    END;
+
+ALTER TABLE workflow_instance
+    ALTER COLUMN status TYPE varchar(30) USING CASE status
+        WHEN 1 THEN 'NOT_STARTED'
+        WHEN 2 THEN 'IN_PROGRESS'
+        WHEN 3 THEN 'COMPLETED'
+        WHEN 4 THEN 'FAILED'
+        WHEN 5 THEN 'CANCELLED'
+    END;
+
+ALTER TABLE workflow_step_instance
+    ALTER COLUMN status TYPE varchar(30) USING CASE status
+        WHEN 1 THEN 'NOT_STARTED'
+        WHEN 2 THEN 'IN_PROGRESS'
+        WHEN 3 THEN 'COMPLETED'
+        WHEN 4 THEN 'FAILED'
+    END;
+
+ALTER TABLE workflow_progress
+    ALTER COLUMN workflow_status TYPE varchar(30) USING CASE workflow_status
+        WHEN 1 THEN 'NOT_STARTED'
+        WHEN 2 THEN 'IN_PROGRESS'
+        WHEN 3 THEN 'COMPLETED'
+        WHEN 4 THEN 'FAILED'
+        WHEN 5 THEN 'CANCELLED'
+    END;
+
+ALTER TABLE workflow_step_definition
+    ALTER COLUMN approval_type TYPE varchar(20) USING CASE approval_type
+        WHEN 1 THEN 'ALL'
+        WHEN 2 THEN 'ANY'
+        WHEN 3 THEN 'N_OF_M'
+    END;
+
+ALTER TABLE workflow_step_approver
+    ALTER COLUMN approver_type TYPE varchar(20) USING CASE approver_type
+        WHEN 1 THEN 'USER'
+        WHEN 2 THEN 'ROLE'
+        WHEN 3 THEN 'MANAGER'
+    END;
+
+ALTER TABLE work_item
+    ALTER COLUMN status TYPE varchar(30) USING CASE status
+        WHEN 1 THEN 'DRAFT'
+        WHEN 2 THEN 'SUBMITTED'
+        WHEN 3 THEN 'IN_REVIEW'
+        WHEN 4 THEN 'REWORK'
+        WHEN 5 THEN 'APPROVED'
+        WHEN 6 THEN 'REJECTED'
+        WHEN 7 THEN 'CANCELLED'
+        WHEN 8 THEN 'ARCHIVED'
+    END;
+
+-- History tables
+ALTER TABLE approval_task_history
+    ALTER COLUMN status TYPE varchar(30) USING CASE status
+        WHEN 1 THEN 'PENDING'
+        WHEN 2 THEN 'APPROVED'
+        WHEN 3 THEN 'REJECTED'
+        WHEN 4 THEN 'DELEGATED'
+        WHEN 5 THEN 'EXPIRED'
+        WHEN 6 THEN 'CANCELLED'
+    END,
+    ALTER COLUMN approver_type TYPE varchar(20) USING CASE approver_type
+        WHEN 1 THEN 'USER'
+        WHEN 2 THEN 'ROLE'
+        WHEN 3 THEN 'MANAGER'
+    END;
+
+ALTER TABLE approval_decision_history
+    ALTER COLUMN decision TYPE varchar(20) USING CASE decision
+        WHEN 1 THEN 'APPROVED'
+        WHEN 2 THEN 'REJECTED'
+    END;
+
+ALTER TABLE workflow_step_instance_history
+    ALTER COLUMN status TYPE varchar(30) USING CASE status
+        WHEN 1 THEN 'NOT_STARTED'
+        WHEN 2 THEN 'IN_PROGRESS'
+        WHEN 3 THEN 'COMPLETED'
+        WHEN 4 THEN 'FAILED'
+    END;
+
+COMMIT;
@@ -0,0 +1,76 @@
+-- Converts approval_task, approval_decision and approval_comment into tables range partitioned by month of
+-- created_at, for use with workflow-core.partitioning.enabled=true. Requires PostgreSQL 12 or later.
+--
+-- Run once, with the application stopped. On a new database, start the application once so that Hibernate
+-- creates the schema, stop it, and run this script before enabling partitioning. Each table is copied into
+-- its partitioned replacement, so plan for the time and disk space this takes on large tables.
+--
+-- A partitioned table's primary key must include the partition key, so the primary keys become
+-- (id, created_at) and the foreign keys from approval_decision and approval_comment to approval_task are
+-- dropped; the application keeps those references consistent. Partitions are named <table>_pYYYY_MM and
+-- cover one calendar month in UTC, matching ApprovalPartitionMaintenance, which keeps creating upcoming
+-- months once the application runs. Each table also gets a DEFAULT partition, <table>_default, which takes
+-- rows of months that have no partition yet, so inserts keep working if maintenance falls behind. Everything runs in one transaction and rolls back on the first error.
+
+\set ON_ERROR_STOP on
+
+BEGIN;
+
+SET LOCAL timezone = 'UTC';
+
+CREATE FUNCTION pg_temp.partition_by_month(table_name text, premake_months integer) RETURNS void
+LANGUAGE plpgsql AS $$
+DECLARE
+    legacy text := table_name || '_unpartitioned';
+    first_month timestamptz;
+    last_month timestamptz := date_trunc('month', now()) + make_interval(months => premake_months);
+    month timestamptz;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(table_name)) THEN
+        RAISE NOTICE '% is already partitioned, skipping', table_name;
+        RETURN;
+    END IF;
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', table_name, legacy);
+    -- Frees the primary key name (and its index name) for the new table
+    IF EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = to_regclass(legacy) AND conname = table_name || '_pkey') THEN
+        EXECUTE format('ALTER TABLE %I RENAME CONSTRAINT %I TO %I', legacy, table_name || '_pkey', legacy || '_pkey');
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE) '
+                   || 'PARTITION BY RANGE (created_at)', table_name, legacy);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, created_at)', table_name, table_name || '_pkey');
+
+    EXECUTE format('SELECT date_trunc(''month'', min(created_at)) FROM %I', legacy) INTO first_month;
+    month := least(coalesce(first_month, date_trunc('month', now())), date_trunc('month', now()));
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       table_name || to_char(month, '"_p"YYYY_MM'), table_name,
+                       month, month + interval '1 month');
+        month := month + interval '1 month';
+    END LOOP;
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', table_name || '_default', table_name);
+
+    EXECUTE format('INSERT INTO %I SELECT * FROM %I', table_name, legacy);
+    -- Drops the foreign keys other tables had on the legacy table as well
+    EXECUTE format('DROP TABLE %I CASCADE', legacy);
+    EXECUTE format('ANALYZE %I', table_name);
+END
+$$;
+
+SELECT pg_temp.partition_by_month('approval_task', 3);
+SELECT pg_temp.partition_by_month('approval_decision', 3);
+SELECT pg_temp.partition_by_month('approval_comment', 3);
+
+-- Partitioned indexes are created on every existing and future partition
+ALTER TABLE approval_task DROP CONSTRAINT IF EXISTS fk_approval_task_step_instance;
+ALTER TABLE approval_task ADD CONSTRAINT fk_approval_task_step_instance
+    FOREIGN KEY (step_instance_id) REFERENCES workflow_step_instance (id);
+CREATE INDEX IF NOT EXISTS idx_approval_task_step_instance ON approval_task (step_instance_id);
+CREATE INDEX IF NOT EXISTS idx_approval_task_approver_status ON approval_task (approver_id, status);
+CREATE INDEX IF NOT EXISTS idx_approval_task_approver_change ON approval_task (approver_id, change_xid, id);
+CREATE INDEX IF NOT EXISTS idx_approval_task_previous_approver_change
+    ON approval_task (previous_approver_id, change_xid, id);
+CREATE INDEX IF NOT EXISTS idx_approval_decision_task ON approval_decision (approval_task_id);
+CREATE INDEX IF NOT EXISTS idx_approval_comment_task ON approval_comment (approval_task_id);
+
+COMMIT;